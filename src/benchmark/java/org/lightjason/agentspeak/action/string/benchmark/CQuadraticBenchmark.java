@@ -0,0 +1,116 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.benchmark;
+
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * throughput benchmark of the string actions with quadratic runtime.
+ * The actions or the creation of their arguments compare all pairs
+ * of strings, so the number of string arguments is capped to keep
+ * a full run within minutes, the other parameters are equal to the
+ * action benchmark
+ *
+ * {@code mvn -P benchmark verify -Djmh.args="CQuadraticBenchmark -prof gc"}
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class CQuadraticBenchmark
+{
+    /**
+     * action
+     */
+    @Param( { "CLUSTERKMEDOIDS", "CLUSTERLINKAGE", "DISTANCEMATRIX", "MATRIXGET", "MATRIXROW" } )
+    private EAction m_action;
+    /**
+     * number of string arguments
+     */
+    @Param( { "10", "100", "1000" } )
+    private int m_size;
+    /**
+     * length of each string
+     */
+    @Param( { "8", "256" } )
+    private int m_length;
+    /**
+     * alphabet
+     */
+    @Param( { "ASCII", "MULTILINGUAL" } )
+    private EAlphabet m_alphabet;
+    /**
+     * parallel flag
+     */
+    @Param( { "false", "true" } )
+    private boolean m_parallel;
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * creates the arguments with a fixed seed
+     */
+    @Setup( Level.Trial )
+    public void setup()
+    {
+        m_arguments = m_action.arguments( m_alphabet.generate( new Random( 42 ), m_size, m_length ) );
+    }
+
+    /**
+     * executes the action
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    public void execute( final Blackhole p_blackhole )
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        p_blackhole.consume( m_action.action().execute( m_parallel, IContext.EMPTYPLAN, m_arguments, l_return ).count() );
+        p_blackhole.consume( l_return );
+    }
+}
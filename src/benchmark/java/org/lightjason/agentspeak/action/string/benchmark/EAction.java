@@ -0,0 +1,260 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.benchmark;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.string.CBase64Decode;
+import org.lightjason.agentspeak.action.string.CBase64Encode;
+import org.lightjason.agentspeak.action.string.CChunk;
+import org.lightjason.agentspeak.action.string.CCluster;
+import org.lightjason.agentspeak.action.string.CConcat;
+import org.lightjason.agentspeak.action.string.CContains;
+import org.lightjason.agentspeak.action.string.CContainsAny;
+import org.lightjason.agentspeak.action.string.CCosine;
+import org.lightjason.agentspeak.action.string.CDamerau;
+import org.lightjason.agentspeak.action.string.CDistanceMatrix;
+import org.lightjason.agentspeak.action.string.CEndsWith;
+import org.lightjason.agentspeak.action.string.CGraphemeReverse;
+import org.lightjason.agentspeak.action.string.CHash;
+import org.lightjason.agentspeak.action.string.CIntern;
+import org.lightjason.agentspeak.action.string.CJaccard;
+import org.lightjason.agentspeak.action.string.CJaroWinkler;
+import org.lightjason.agentspeak.action.string.CKey;
+import org.lightjason.agentspeak.action.string.CLevenshtein;
+import org.lightjason.agentspeak.action.string.CLevenshteinEngine;
+import org.lightjason.agentspeak.action.string.CLongestPrefix;
+import org.lightjason.agentspeak.action.string.CLongestSuffix;
+import org.lightjason.agentspeak.action.string.CLower;
+import org.lightjason.agentspeak.action.string.CMatchAll;
+import org.lightjason.agentspeak.action.string.CNCD;
+import org.lightjason.agentspeak.action.string.CNCDDictionary;
+import org.lightjason.agentspeak.action.string.CNGrams;
+import org.lightjason.agentspeak.action.string.CPatternCache;
+import org.lightjason.agentspeak.action.string.CRandom;
+import org.lightjason.agentspeak.action.string.CRandomBulk;
+import org.lightjason.agentspeak.action.string.CReplace;
+import org.lightjason.agentspeak.action.string.CReverse;
+import org.lightjason.agentspeak.action.string.CRope;
+import org.lightjason.agentspeak.action.string.CSimilarityJoin;
+import org.lightjason.agentspeak.action.string.CSize;
+import org.lightjason.agentspeak.action.string.CStartsWith;
+import org.lightjason.agentspeak.action.string.CTokenize;
+import org.lightjason.agentspeak.action.string.CTriangularMatrix;
+import org.lightjason.agentspeak.action.string.CUpper;
+import org.lightjason.agentspeak.action.string.base64.CDecode;
+import org.lightjason.agentspeak.action.string.base64.CDecodeRaw;
+import org.lightjason.agentspeak.action.string.base64.CEncode;
+import org.lightjason.agentspeak.action.string.base64.EBase64;
+import org.lightjason.agentspeak.action.string.hash.CUpdate;
+import org.lightjason.agentspeak.action.string.hash.CValue;
+import org.lightjason.agentspeak.action.string.hash.EHash;
+import org.lightjason.agentspeak.action.string.index.CAdd;
+import org.lightjason.agentspeak.action.string.index.CBKTree;
+import org.lightjason.agentspeak.action.string.index.CCreate;
+import org.lightjason.agentspeak.action.string.index.CNearest;
+import org.lightjason.agentspeak.action.string.index.CRadius;
+import org.lightjason.agentspeak.action.string.matrix.CGet;
+import org.lightjason.agentspeak.action.string.matrix.CRow;
+import org.lightjason.agentspeak.action.string.metric.CMetric;
+import org.lightjason.agentspeak.action.string.minhash.CBands;
+import org.lightjason.agentspeak.action.string.minhash.CMinHash;
+import org.lightjason.agentspeak.action.string.minhash.CSignature;
+import org.lightjason.agentspeak.action.string.minhash.CSimilarity;
+import org.lightjason.agentspeak.action.string.ncd.CDictionary;
+import org.lightjason.agentspeak.action.string.regex.CCompile;
+import org.lightjason.agentspeak.action.string.regex.CFindAll;
+import org.lightjason.agentspeak.action.string.regex.CGroups;
+import org.lightjason.agentspeak.action.string.regex.CMatch;
+import org.lightjason.agentspeak.action.string.regex.CSplit;
+import org.lightjason.agentspeak.action.string.rope.CToString;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmarked actions with the argument layout,
+ * the input strings are mapped to the action arguments
+ */
+public enum EAction
+{
+    BASE64DECODE( new CBase64Decode(), i -> terms( i.stream().map( j -> Base64.getEncoder().encodeToString( j.getBytes( StandardCharsets.UTF_8 ) ) ) ) ),
+    BASE64ENCODE( new CBase64Encode(), i -> terms( i.stream() ) ),
+    BASE64ALPHABETDECODE( new CDecode(), i -> terms( Stream.concat( Stream.of( "url" ), i.stream().map( EBase64.URL::encode ) ) ) ),
+    BASE64ALPHABETDECODERAW( new CDecodeRaw(), i -> terms( Stream.concat( Stream.of( "url" ), i.stream().map( EBase64.URL::encode ) ) ) ),
+    BASE64ALPHABETENCODE( new CEncode(), i -> terms( Stream.concat( Stream.of( "url" ), i.stream() ) ) ),
+    CHUNK( new CChunk(), i -> terms( Stream.concat( Stream.of( "word" ), i.stream() ) ) ),
+    CLUSTERKMEDOIDS( new CCluster(), i -> terms( Stream.concat( Stream.of( "kmedoids", 8, 42 ), i.stream() ) ) ),
+    CLUSTERLINKAGE( new CCluster(), i -> terms( Stream.concat( Stream.of( "linkage", 2 ), i.stream() ) ) ),
+    CONCAT( new CConcat(), i -> terms( i.stream() ) ),
+    CONTAINS( new CContains(), i -> terms( Stream.concat( Stream.of( String.join( "", i ) ), i.stream() ) ) ),
+    CONTAINSANY( new CContainsAny(), i -> terms( Stream.concat( Stream.of( String.join( "", i ) ), i.stream() ) ) ),
+    COSINE( new CCosine(), i -> terms( i.stream() ) ),
+    DAMERAU( new CDamerau(), i -> terms( i.stream() ) ),
+    DISTANCEMATRIX( new CDistanceMatrix(), i -> terms( i.stream() ) ),
+    ENDSWITH( new CEndsWith(), i -> terms( Stream.concat( Stream.of( String.join( "", i ) ), i.stream() ) ) ),
+    GRAPHEMEREVERSE( new CGraphemeReverse(), i -> terms( i.stream() ) ),
+    HASHMURMUR3( new CHash(), i -> terms( Stream.concat( Stream.of( "murmur3" ), i.stream() ) ) ),
+    HASHSHA256( new CHash(), i -> terms( Stream.concat( Stream.of( "sha256" ), i.stream() ) ) ),
+    HASHXXHASH64( new CHash(), i -> terms( Stream.concat( Stream.of( "xxhash64" ), i.stream() ) ) ),
+    INTERN( new CIntern(), i -> terms( i.stream() ) ),
+    JACCARD( new CJaccard(), i -> terms( i.stream() ) ),
+    JAROWINKLER( new CJaroWinkler(), i -> terms( i.stream() ) ),
+    KEYDOUBLEMETAPHONE( new CKey(), i -> terms( Stream.concat( Stream.of( "doublemetaphone" ), i.stream() ) ) ),
+    KEYNORMALIZE( new CKey(), i -> terms( Stream.concat( Stream.of( "normalize" ), i.stream() ) ) ),
+    KEYSOUNDEX( new CKey(), i -> terms( Stream.concat( Stream.of( "soundex" ), i.stream() ) ) ),
+    LEVENSHTEIN( new CLevenshtein(), i -> terms( i.stream() ) ),
+    LONGESTPREFIX( new CLongestPrefix(), i -> terms( Stream.concat( Stream.of( String.join( "", i ) ), i.stream() ) ) ),
+    LONGESTSUFFIX( new CLongestSuffix(), i -> terms( Stream.concat( Stream.of( String.join( "", i ) ), i.stream() ) ) ),
+    LOCALELOWER( new org.lightjason.agentspeak.action.string.locale.CLower(), i -> terms( Stream.concat( Stream.of( "root" ), i.stream() ) ) ),
+    LOCALEUPPER( new org.lightjason.agentspeak.action.string.locale.CUpper(), i -> terms( Stream.concat( Stream.of( "root" ), i.stream() ) ) ),
+    LOWER( new CLower(), i -> terms( i.stream() ) ),
+    MATCHALL( new CMatchAll(), i -> terms( Stream.concat( Stream.of( String.join( "", i ) ), i.stream() ) ) ),
+    NGRAMS( new CNGrams(), i -> terms( Stream.concat( Stream.of( 3 ), i.stream() ) ) ),
+    NCD( new CNCD(), i -> terms( i.stream() ) ),
+    NCDDICTIONARY( new CNCD(), i -> terms( Stream.concat( Stream.of( CNCDDictionary.of( i ) ), i.stream() ) ) ),
+    RANDOM( new CRandom(), i -> terms( Stream.concat( Stream.of( EAlphabet.ASCII.characters() ), i.stream().map( String::length ) ) ) ),
+    RANDOMBULK( new CRandomBulk(), i -> terms( Stream.of( EAlphabet.ASCII.characters(), i.size(), i.get( 0 ).length() ) ) ),
+    REPLACE( new CReplace(), i -> terms( Stream.concat( Stream.of( "a+", "b" ), i.stream() ) ) ),
+    REVERSE( new CReverse(), i -> terms( i.stream() ) ),
+    ROPECONCAT( new CConcat(), i -> terms( Stream.concat( Stream.of( CRope.of( Stream.empty() ) ), i.stream() ) ) ),
+    SIMILARITYJOIN( new CSimilarityJoin(), i -> terms( Stream.of( 0.5, terms( i.stream() ) ) ) ),
+    SIZE( new CSize(), i -> terms( i.stream() ) ),
+    STARTSWITH( new CStartsWith(), i -> terms( Stream.concat( Stream.of( String.join( "", i ) ), i.stream() ) ) ),
+    TOKENIZE( new CTokenize(), i -> terms( Stream.concat( Stream.of( "[aeiou]+" ), i.stream() ) ) ),
+    UPPER( new CUpper(), i -> terms( i.stream() ) ),
+    INDEXCREATE( new CCreate(), i -> terms( i.stream() ) ),
+    INDEXADD( new CAdd(), i -> terms( Stream.concat( Stream.of( index( i ) ), i.stream() ) ) ),
+    INDEXNEAREST( new CNearest(), i -> terms( Stream.concat( Stream.of( index( i ), 5 ), i.stream() ) ) ),
+    INDEXRADIUS( new CRadius(), i -> terms( Stream.concat( Stream.of( index( i ), 2 ), i.stream() ) ) ),
+    REGEXMATCH( new CMatch(), i -> terms( Stream.concat( Stream.of( CPatternCache.pattern( "[a-m]+.*" ) ), i.stream() ) ) ),
+    REGEXFINDALL( new CFindAll(), i -> terms( Stream.concat( Stream.of( CPatternCache.pattern( "[a-m]+" ) ), i.stream() ) ) ),
+    REGEXGROUPS( new CGroups(), i -> terms( Stream.concat( Stream.of( CPatternCache.pattern( "([a-m]+)([n-z]+)" ) ), i.stream() ) ) ),
+    REGEXSPLIT( new CSplit(), i -> terms( Stream.concat( Stream.of( CPatternCache.pattern( "[aeiou]" ) ), i.stream() ) ) ),
+    MINHASHSIGNATURE( new CSignature(), i -> terms( i.stream() ) ),
+    MINHASHSIMILARITY( new CSimilarity(), i -> terms( i.stream().map( j -> CMinHash.of( j, CMinHash.DEFAULTSIZE, 3 ) ) ) ),
+    MINHASHBANDS( new CBands(), i -> terms( Stream.concat( Stream.of( 16 ), i.stream().map( j -> CMinHash.of( j, CMinHash.DEFAULTSIZE, 3 ) ) ) ) ),
+    ROPECREATE( new org.lightjason.agentspeak.action.string.rope.CCreate(), i -> terms( i.stream() ) ),
+    ROPETOSTRING( new CToString(), i -> terms( i.stream().map( j -> CRope.of( Stream.of( j, j ) ) ) ) ),
+    REGEXCOMPILE( new CCompile(), i -> terms( i.stream().map( Pattern::quote ) ) ),
+    HASHCREATE( new org.lightjason.agentspeak.action.string.hash.CCreate(), i -> terms( i.stream().map( j -> "xxhash64" ) ) ),
+    HASHUPDATE( new CUpdate(), i -> terms( Stream.concat( Stream.of( EHash.XXHASH64.create() ), i.stream() ) ) ),
+    HASHVALUE( new CValue(), i -> terms( i.stream().map( j -> EHash.XXHASH64.create().update( j ) ) ) ),
+    NCDDICTIONARYCREATE( new CDictionary(), i -> terms( i.stream() ) ),
+    MATRIXGET( new CGet(), i -> terms( Stream.concat( Stream.of( matrix( i ) ), IntStream.range( 0, i.size() ).boxed().flatMap( j -> Stream.of( j, ( j + 1 ) % i.size() ) ) ) ) ),
+    MATRIXROW( new CRow(), i -> terms( Stream.concat( Stream.of( matrix( i ) ), IntStream.range( 0, i.size() ).boxed() ) ) ),
+    METRICUPPER( CMetric.instrument( new CUpper() ), i -> terms( i.stream() ) );
+
+    /**
+     * action
+     */
+    private final IAction m_action;
+    /**
+     * argument function
+     */
+    private final Function<List<String>, List<ITerm>> m_arguments;
+
+    /**
+     * ctor
+     *
+     * @param p_action action
+     * @param p_arguments argument function
+     */
+    EAction( @Nonnull final IAction p_action, @Nonnull final Function<List<String>, List<ITerm>> p_arguments )
+    {
+        m_action = p_action;
+        m_arguments = p_arguments;
+    }
+
+    /**
+     * returns the action
+     *
+     * @return action
+     */
+    @Nonnull
+    public final IAction action()
+    {
+        return m_action;
+    }
+
+    /**
+     * creates the action arguments
+     *
+     * @param p_input input strings
+     * @return argument list
+     */
+    @Nonnull
+    public final List<ITerm> arguments( @Nonnull final List<String> p_input )
+    {
+        return m_arguments.apply( p_input );
+    }
+
+    /**
+     * creates a term list
+     *
+     * @param p_values values
+     * @return term list
+     */
+    @Nonnull
+    private static List<ITerm> terms( @Nonnull final Stream<?> p_values )
+    {
+        return p_values.<ITerm>map( CRawTerm::of ).collect( Collectors.toList() );
+    }
+
+    /**
+     * creates an index of the input
+     *
+     * @param p_input input strings
+     * @return index
+     */
+    @Nonnull
+    private static CBKTree index( @Nonnull final List<String> p_input )
+    {
+        final CBKTree l_index = new CBKTree( new CLevenshteinEngine( 1, 1, 1 ) );
+        p_input.forEach( l_index::add );
+        return l_index;
+    }
+
+    /**
+     * creates the levenshtein distance matrix of the input
+     *
+     * @param p_input input strings
+     * @return matrix
+     */
+    @Nonnull
+    private static CTriangularMatrix matrix( @Nonnull final List<String> p_input )
+    {
+        final CLevenshteinEngine l_engine = new CLevenshteinEngine( 1, 1, 1 );
+        return CTriangularMatrix.of( false, p_input, i -> j -> l_engine.distance( i, j ) );
+    }
+}
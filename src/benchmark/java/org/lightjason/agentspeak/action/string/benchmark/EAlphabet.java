@@ -0,0 +1,98 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.benchmark;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * alphabets of the benchmark input
+ */
+public enum EAlphabet
+{
+    ASCII( "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 _-" ),
+    MULTILINGUAL( "abcxyzäöüßéèçñåøαβγδεπωжзийклм中文字符日本語한국어😀🚀 " );
+
+    /**
+     * code points
+     */
+    private final int[] m_codepoints;
+
+    /**
+     * ctor
+     *
+     * @param p_characters characters
+     */
+    EAlphabet( @Nonnull final String p_characters )
+    {
+        m_codepoints = p_characters.codePoints().toArray();
+    }
+
+    /**
+     * creates random strings
+     *
+     * @param p_random random generator
+     * @param p_number number of strings
+     * @param p_length length of each string in code points
+     * @return string list
+     */
+    @Nonnull
+    public final List<String> generate( @Nonnull final Random p_random, @Nonnegative final int p_number, @Nonnegative final int p_length )
+    {
+        return IntStream.range( 0, p_number )
+                        .mapToObj( i -> this.generate( p_random, p_length ) )
+                        .collect( Collectors.toList() );
+    }
+
+    /**
+     * creates a random string
+     *
+     * @param p_random random generator
+     * @param p_length length in code points
+     * @return string
+     */
+    @Nonnull
+    public final String generate( @Nonnull final Random p_random, @Nonnegative final int p_length )
+    {
+        final StringBuilder l_builder = new StringBuilder( 2 * p_length );
+        IntStream.range( 0, p_length ).forEach( i -> l_builder.appendCodePoint( m_codepoints[p_random.nextInt( m_codepoints.length )] ) );
+        return l_builder.toString();
+    }
+
+    /**
+     * returns the alphabet as string
+     *
+     * @return alphabet string
+     */
+    @Nonnull
+    public final String characters()
+    {
+        return new String( m_codepoints, 0, m_codepoints.length );
+    }
+}
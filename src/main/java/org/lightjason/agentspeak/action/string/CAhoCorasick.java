@@ -0,0 +1,220 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * aho-corasick automaton for multi-pattern search.
+ * The automaton is build once for a list of needles and
+ * scans a haystack in a single pass, automatons are cached
+ * by the needle list
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Aho%E2%80%93Corasick_algorithm"></a>
+ */
+public final class CAhoCorasick
+{
+    /**
+     * default number of cached automatons
+     */
+    public static final int DEFAULTCAPACITY = 64;
+    /**
+     * cached automatons
+     */
+    private static final CCache<List<String>, CAhoCorasick> CACHE = new CCache<>( DEFAULTCAPACITY );
+    /**
+     * needles
+     */
+    private final List<String> m_needles;
+    /**
+     * frozen trie of the needles
+     */
+    private final CTrie m_trie;
+    /**
+     * failure state of each state
+     */
+    private final int[] m_failure;
+    /**
+     * next state on the failure path with output, zero if not exists
+     */
+    private final int[] m_dictionary;
+    /**
+     * indices of empty needles
+     */
+    private final int[] m_empty;
+
+    /**
+     * ctor
+     *
+     * @param p_needles needles
+     */
+    private CAhoCorasick( @Nonnull final List<String> p_needles )
+    {
+        m_needles = p_needles;
+
+        // empty needles end on the root, which is never reported
+        m_trie = new CTrie( p_needles, false );
+
+        // failure and dictionary links in breadth-first order
+        m_failure = new int[m_trie.size()];
+        m_dictionary = new int[m_trie.size()];
+        final Deque<Integer> l_queue = new ArrayDeque<>();
+        Arrays.stream( m_trie.targets( 0 ) ).forEach( l_queue::add );
+
+        while ( !l_queue.isEmpty() )
+        {
+            final int l_state = l_queue.poll();
+            for ( int i = 0; i < m_trie.characters( l_state ).length; i++ )
+            {
+                final int l_child = m_trie.targets( l_state )[i];
+                m_failure[l_child] = l_state == 0 ? 0 : this.step( m_failure[l_state], m_trie.characters( l_state )[i] );
+                m_dictionary[l_child] = m_trie.output( m_failure[l_child] ).length > 0 ? m_failure[l_child] : m_dictionary[m_failure[l_child]];
+                l_queue.add( l_child );
+            }
+        }
+
+        m_empty = IntStream.range( 0, p_needles.size() ).filter( i -> p_needles.get( i ).isEmpty() ).toArray();
+    }
+
+    /**
+     * returns the cached automaton of the needles
+     *
+     * @param p_needles needles
+     * @return automaton
+     */
+    @Nonnull
+    public static CAhoCorasick of( @Nonnull final List<String> p_needles )
+    {
+        return CACHE.get( Collections.unmodifiableList( new ArrayList<>( p_needles ) ), CAhoCorasick::new );
+    }
+
+    /**
+     * returns the automaton cache
+     *
+     * @return cache
+     */
+    @Nonnull
+    public static CCache<List<String>, CAhoCorasick> cache()
+    {
+        return CACHE;
+    }
+
+    /**
+     * checks which needles are contained in the haystack,
+     * the scan stops if all needles are found
+     *
+     * @param p_haystack haystack
+     * @return contains flag for each needle
+     */
+    @Nonnull
+    public boolean[] contains( @Nonnull final String p_haystack )
+    {
+        final boolean[] l_result = new boolean[m_needles.size()];
+        Arrays.stream( m_empty ).forEach( i -> l_result[i] = true );
+
+        int l_missing = m_needles.size() - m_empty.length;
+        int l_state = 0;
+        for ( int i = 0; i < p_haystack.length() && l_missing > 0; i++ )
+        {
+            l_state = this.step( l_state, p_haystack.charAt( i ) );
+            for ( int l_match = m_trie.output( l_state ).length > 0 ? l_state : m_dictionary[l_state]; l_match > 0; l_match = m_dictionary[l_match] )
+                for ( final int l_needle : m_trie.output( l_match ) )
+                    if ( !l_result[l_needle] )
+                    {
+                        l_result[l_needle] = true;
+                        l_missing--;
+                    }
+        }
+
+        return l_result;
+    }
+
+    /**
+     * returns all start positions of each needle, overlapping
+     * matches are included
+     *
+     * @param p_haystack haystack
+     * @return ascending start positions for each needle
+     */
+    @Nonnull
+    public List<List<Integer>> positions( @Nonnull final String p_haystack )
+    {
+        final List<List<Integer>> l_result = m_needles.stream().map( i -> new ArrayList<Integer>() ).collect( Collectors.toList() );
+        Arrays.stream( m_empty ).forEach( i -> IntStream.rangeClosed( 0, p_haystack.length() ).forEach( l_result.get( i )::add ) );
+
+        int l_state = 0;
+        for ( int i = 0; i < p_haystack.length(); i++ )
+        {
+            l_state = this.step( l_state, p_haystack.charAt( i ) );
+            for ( int l_match = m_trie.output( l_state ).length > 0 ? l_state : m_dictionary[l_state]; l_match > 0; l_match = m_dictionary[l_match] )
+                for ( final int l_needle : m_trie.output( l_match ) )
+                    l_result.get( l_needle ).add( i - m_needles.get( l_needle ).length() + 1 );
+        }
+
+        return l_result;
+    }
+
+    /**
+     * number of needles
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_needles.size();
+    }
+
+    /**
+     * executes a transition with failure links
+     *
+     * @param p_state current state
+     * @param p_character character
+     * @return next state
+     */
+    private int step( final int p_state, final char p_character )
+    {
+        int l_state = p_state;
+        while ( true )
+        {
+            final int l_next = m_trie.step( l_state, p_character );
+            if ( l_next > -1 )
+                return l_next;
+            if ( l_state == 0 )
+                return 0;
+            l_state = m_failure[l_state];
+        }
+    }
+
+}
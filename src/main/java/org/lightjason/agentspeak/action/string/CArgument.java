@@ -0,0 +1,69 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * reading of string arguments.
+ * The string actions read each character sequence argument
+ * as string, so ropes and other sequences can be used
+ * everywhere, where a string is expected
+ */
+public final class CArgument
+{
+    /**
+     * ctor
+     */
+    private CArgument()
+    {
+    }
+
+    /**
+     * checks if a term is a character sequence
+     *
+     * @param p_term term
+     * @return string flag
+     */
+    public static boolean isstring( @Nonnull final ITerm p_term )
+    {
+        return p_term.raw() instanceof CharSequence;
+    }
+
+    /**
+     * returns the string of a term, character
+     * sequences are converted to a string
+     *
+     * @param p_term term
+     * @return string
+     */
+    public static String string( @Nonnull final ITerm p_term )
+    {
+        final Object l_value = p_term.raw();
+        return l_value instanceof CharSequence ? l_value.toString() : p_term.raw();
+    }
+
+}
@@ -24,19 +24,16 @@
 package org.lightjason.agentspeak.action.string;
 
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.base64.EBase64;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -81,9 +78,12 @@ public final class CBase64Decode extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<String>raw )
-               .forEach( i -> CBase64Decode.apply( p_context, i, p_return ) );
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).map( ITerm::<Object>raw ),
+            i -> CBase64Decode.apply( p_context, i ),
+            p_return
+        );
 
         return Stream.empty();
     }
@@ -92,18 +92,15 @@ public final class CBase64Decode extends IBaseAction
      * create a string with encoding
      *
      * @param p_context execution context
-     * @param p_string byte character
-     * @param p_return return list
+     * @param p_value encoded string, byte array or byte buffer
+     * @return decoded string
      */
-    private static void apply( @Nonnull final IContext p_context, @Nonnull final String p_string, @Nonnull final List<ITerm> p_return )
+    @Nonnull
+    private static String apply( @Nonnull final IContext p_context, @Nonnull final Object p_value )
     {
         try
         {
-            p_return.add(
-                CRawTerm.of(
-                    new String( Base64.getDecoder().decode( p_string.getBytes( Charset.forName( "UTF-8" ) ) ), StandardCharsets.UTF_8 )
-                )
-            );
+            return EBase64.BASIC.decodestring( p_value );
         }
         catch ( final IllegalArgumentException l_exception )
         {
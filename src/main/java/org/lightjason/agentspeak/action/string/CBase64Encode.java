@@ -24,24 +24,23 @@
 package org.lightjason.agentspeak.action.string;
 
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.base64.EBase64;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.nio.charset.Charset;
-import java.util.Base64;
 import java.util.List;
 import java.util.stream.Stream;
 
 
 /**
  * action to encodes a string with Base64.
- * The base64 encoded version is created of each string argument
+ * The base64 encoded version is created of each string argument,
+ * byte arrays and byte buffers are encoded without string conversion
  *
  * {@code [A|B] = .string/base64encode( "Hello", "AgentSpeak(L++)" );}
  *
@@ -78,11 +77,12 @@ public final class CBase64Encode extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<String>raw )
-               .map( i -> Base64.getEncoder().encodeToString( i.getBytes( Charset.forName( "UTF-8" ) ) ) )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).map( ITerm::<Object>raw ),
+            EBase64.BASIC::encode,
+            p_return
+        );
 
         return Stream.empty();
     }
@@ -0,0 +1,192 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+
+/**
+ * bounded concurrent cache.
+ * Values are created on the first request of a key,
+ * if the capacity is reached the oldest values will
+ * be removed first
+ *
+ * @tparam K key type
+ * @tparam V value type
+ */
+public final class CCache<K, V>
+{
+    /**
+     * values
+     */
+    private final Map<K, V> m_values = new ConcurrentHashMap<>();
+    /**
+     * insert order of the keys
+     */
+    private final Queue<K> m_order = new ConcurrentLinkedQueue<>();
+    /**
+     * capacity
+     */
+    private final AtomicInteger m_capacity;
+    /**
+     * hit counter
+     */
+    private final LongAdder m_hits = new LongAdder();
+    /**
+     * miss counter
+     */
+    private final LongAdder m_misses = new LongAdder();
+
+    /**
+     * ctor
+     *
+     * @param p_capacity maximum number of values
+     */
+    public CCache( @Nonnegative final int p_capacity )
+    {
+        m_capacity = new AtomicInteger( check( p_capacity ) );
+    }
+
+    /**
+     * returns a value and creates it if it does not exist
+     *
+     * @param p_key key
+     * @param p_function value function
+     * @return value
+     */
+    @Nonnull
+    public V get( @Nonnull final K p_key, @Nonnull final Function<K, V> p_function )
+    {
+        final V l_value = m_values.get( p_key );
+        if ( l_value != null )
+        {
+            m_hits.increment();
+            return l_value;
+        }
+
+        m_misses.increment();
+        final V l_created = p_function.apply( p_key );
+        if ( m_values.putIfAbsent( p_key, l_created ) == null )
+        {
+            m_order.add( p_key );
+            while ( m_values.size() > m_capacity.get() )
+            {
+                final K l_eldest = m_order.poll();
+                if ( l_eldest == null )
+                    break;
+                m_values.remove( l_eldest );
+            }
+        }
+
+        return l_created;
+    }
+
+    /**
+     * returns the number of cache hits
+     *
+     * @return hits
+     */
+    @Nonnegative
+    public long hits()
+    {
+        return m_hits.sum();
+    }
+
+    /**
+     * returns the number of cache misses
+     *
+     * @return misses
+     */
+    @Nonnegative
+    public long misses()
+    {
+        return m_misses.sum();
+    }
+
+    /**
+     * returns the number of values
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_values.size();
+    }
+
+    /**
+     * returns the capacity
+     *
+     * @return maximum number of values
+     */
+    @Nonnegative
+    public int capacity()
+    {
+        return m_capacity.get();
+    }
+
+    /**
+     * sets the capacity
+     *
+     * @param p_capacity maximum number of values
+     */
+    public void capacity( @Nonnegative final int p_capacity )
+    {
+        m_capacity.set( check( p_capacity ) );
+    }
+
+    /**
+     * clears the values and the counters
+     */
+    public void clear()
+    {
+        m_values.clear();
+        m_order.clear();
+        m_hits.reset();
+        m_misses.reset();
+    }
+
+    /**
+     * checks the capacity
+     *
+     * @param p_capacity capacity
+     * @return capacity
+     */
+    private static int check( final int p_capacity )
+    {
+        if ( p_capacity < 1 )
+            throw new IllegalArgumentException( "capacity must be greater than zero" );
+
+        return p_capacity;
+    }
+
+}
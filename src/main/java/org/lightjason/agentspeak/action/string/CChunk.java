@@ -0,0 +1,98 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action to split strings lazily into chunks.
+ * The first argument is the chunk mode ( CHARACTER | WORD | LINE | WINDOW ),
+ * on window mode the second argument is the window size, for each other
+ * argument a chunk term is returned, which can be used within a lambda
+ * expression, so the chunks are created on streaming
+ *
+ * {@code [A|B] = .string/chunk( "word", "this is a text", "another text" ); (A) -> W | .print(W);}
+ * {@code W = .string/chunk( "window", 5, "this is a text" );}
+ */
+public final class CChunk extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -418273046126735409L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CChunk.class, "string" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final String l_name = p_argument.get( 0 ).raw();
+        if ( !EChunk.exist( l_name ) )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownmode", l_name ) );
+
+        final EChunk l_mode = EChunk.of( l_name );
+        final int l_size = EChunk.WINDOW.equals( l_mode ) ? p_argument.get( 1 ).<Number>raw().intValue() : 1;
+
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).skip( EChunk.WINDOW.equals( l_mode ) ? 2 : 1 ).map( CArgument::string ),
+            i -> new CStringChunk( i, l_mode, l_size ),
+            p_return
+        );
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.lightjason.agentspeak.action.IBaseLambdaStreaming;
+
+import javax.annotation.Nonnull;
+import java.util.stream.Stream;
+
+
+/**
+ * stream of string chunks
+ */
+public final class CChunkLambdaStreaming extends IBaseLambdaStreaming<CStringChunk>
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5250187342196563521L;
+
+    @Override
+    public Stream<?> apply( @Nonnull final CStringChunk p_value )
+    {
+        return p_value.stream();
+    }
+
+    @NonNull
+    @Override
+    public Stream<Class<?>> assignable()
+    {
+        return Stream.of( CStringChunk.class );
+    }
+}
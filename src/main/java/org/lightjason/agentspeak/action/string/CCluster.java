@@ -0,0 +1,151 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * clusters strings.
+ * The action returns a cluster id for each string argument in
+ * input order, the first argument is the algorithm ( KMEDOIDS | LINKAGE ),
+ * k-medoids needs the number of clusters and an optional random seed,
+ * linkage needs the maximum distance of linked strings, if the next string
+ * argument is a metric ( LEVENSHTEIN | DAMERAU ) or a compression algorithm
+ * ( BZIP | GZIP | DEFLATE | PACK200 | XZ ), it defines the distance,
+ * otherwise the levenshtein distance is used
+ *
+ * {@code [A|B|C] = .string/cluster( "kmedoids", 2, "start", "starting", "end" );}
+ * {@code [A|B|C] = .string/cluster( "kmedoids", 2, 42, "damerau", "start", "tsart", "end" );}
+ * {@code [A|B|C] = .string/cluster( "linkage", 3, "start", "starting", "end" );}
+ */
+public final class CCluster extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2266478904436358327L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CCluster.class, "string" );
+    /**
+     * k-medoids algorithm name
+     */
+    private static final String KMEDOIDS = "kmedoids";
+    /**
+     * linkage algorithm name
+     */
+    private static final String LINKAGE = "linkage";
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<String> l_strings = CCommon.flatten( p_argument )
+                                              .filter( i -> CArgument.isstring( i ) )
+                                              .map( CArgument::string )
+                                              .collect( Collectors.toList() );
+
+        final double[] l_values = CCommon.flatten( p_argument )
+                                         .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                                         .map( ITerm::<Number>raw )
+                                         .mapToDouble( Number::doubleValue )
+                                         .toArray();
+
+        if ( l_strings.isEmpty() || l_values.length == 0 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentnumberwrong" ) );
+
+        final String l_algorithm = l_strings.get( 0 ).trim().toLowerCase( Locale.ROOT );
+        if ( !KMEDOIDS.equals( l_algorithm ) && !LINKAGE.equals( l_algorithm ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownalgorithm", l_strings.get( 0 ) )
+            );
+
+        // metric is defined by the second string
+        final Function<String, ToDoubleFunction<String>> l_metric = l_strings.size() > 1
+                                                                    ? CDistanceMatrix.distance( l_strings.get( 1 ).trim().toLowerCase( Locale.ROOT ), new double[0] )
+                                                                    : null;
+        final Function<String, ToDoubleFunction<String>> l_distance = l_metric == null
+                                                                      ? CDistanceMatrix.distance( CDistanceMatrix.LEVENSHTEIN, new double[0] )
+                                                                      : l_metric;
+        final List<String> l_input = l_strings.subList( l_metric == null ? 1 : 2, l_strings.size() );
+
+        final int[] l_ids;
+        try
+        {
+            l_ids = KMEDOIDS.equals( l_algorithm )
+                    ? CClustering.kmedoids(
+                        p_parallel,
+                        l_input,
+                        l_distance,
+                        (int) l_values[0],
+                        l_values.length > 1 ? new Random( (long) l_values[1] ) : new Random()
+                    )
+                    : CClustering.linkage( p_parallel, l_input, l_distance, l_values[0] );
+        }
+        catch ( final IllegalArgumentException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        Arrays.stream( l_ids ).boxed().map( CRawTerm::of ).forEach( p_return::add );
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,384 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * clustering of strings by a distance.
+ * The k-medoids clustering uses the alternating algorithm on the
+ * distance matrix, if the number of strings is large, clara draws
+ * samples, clusters each sample and keeps the medoids with the lowest
+ * cost over all strings, the threshold clustering is a single-linkage
+ * clustering, which connects all strings with a distance lower or equal
+ * than the threshold, cluster ids are numbered by their first string
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/K-medoids"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Single-linkage_clustering"></a>
+ */
+public final class CClustering
+{
+    /**
+     * number of strings up to which k-medoids runs on all strings
+     */
+    public static final int SAMPLETHRESHOLD = 256;
+    /**
+     * number of clara samples
+     */
+    public static final int SAMPLES = 5;
+    /**
+     * maximum number of k-medoids iterations
+     */
+    private static final int ITERATIONS = 100;
+
+    /**
+     * ctor
+     */
+    private CClustering()
+    {
+    }
+
+    /**
+     * k-medoids clustering
+     *
+     * @param p_parallel parallel execution flag
+     * @param p_strings strings
+     * @param p_distance function which creates the distance function of a reference string
+     * @param p_number number of clusters
+     * @param p_random random generator of the samples
+     * @return cluster id of each string
+     */
+    @Nonnull
+    public static int[] kmedoids( final boolean p_parallel, @Nonnull final List<String> p_strings,
+                                  @Nonnull final Function<String, ToDoubleFunction<String>> p_distance,
+                                  @Nonnegative final int p_number, @Nonnull final Random p_random )
+    {
+        if ( p_number < 1 )
+            throw new IllegalArgumentException( "number of clusters must be greater than zero" );
+
+        if ( p_number >= p_strings.size() )
+            return IntStream.range( 0, p_strings.size() ).toArray();
+
+        if ( p_strings.size() <= SAMPLETHRESHOLD )
+            return assign( p_parallel, p_strings, p_distance, medoids( CTriangularMatrix.of( p_parallel, p_strings, p_distance ), p_number ) ).m_ids;
+
+        // clara, each sample is clustered and the medoids are evaluated on all strings
+        final int l_samplesize = Math.min( p_strings.size(), 40 + 2 * p_number );
+        CAssignment l_best = null;
+        for ( int i = 0; i < SAMPLES; i++ )
+        {
+            final int[] l_sample = sample( p_strings.size(), l_samplesize, p_random );
+            final List<String> l_strings = Arrays.stream( l_sample ).mapToObj( p_strings::get ).collect( Collectors.toList() );
+            final int[] l_medoids = Arrays.stream( medoids( CTriangularMatrix.of( p_parallel, l_strings, p_distance ), p_number ) )
+                                          .map( j -> l_sample[j] )
+                                          .toArray();
+
+            final CAssignment l_assignment = assign( p_parallel, p_strings, p_distance, l_medoids );
+            if ( l_best == null || l_assignment.m_cost < l_best.m_cost )
+                l_best = l_assignment;
+        }
+
+        return l_best.m_ids;
+    }
+
+    /**
+     * single-linkage threshold clustering
+     *
+     * @param p_parallel parallel execution flag
+     * @param p_strings strings
+     * @param p_distance function which creates the distance function of a reference string
+     * @param p_threshold maximum distance of linked strings
+     * @return cluster id of each string
+     */
+    @Nonnull
+    public static int[] linkage( final boolean p_parallel, @Nonnull final List<String> p_strings,
+                                 @Nonnull final Function<String, ToDoubleFunction<String>> p_distance, final double p_threshold )
+    {
+        // links of each string to the following strings
+        final List<int[]> l_links = CParallel.values(
+            p_parallel,
+            IntStream.range( 0, p_strings.size() ).boxed().collect( Collectors.toList() ),
+            i -> {
+                final ToDoubleFunction<String> l_distance = p_distance.apply( p_strings.get( i ) );
+                return IntStream.range( i + 1, p_strings.size() )
+                                .filter( j -> l_distance.applyAsDouble( p_strings.get( j ) ) <= p_threshold )
+                                .toArray();
+            }
+        );
+
+        // union-find of the linked strings
+        final int[] l_parent = IntStream.range( 0, p_strings.size() ).toArray();
+        for ( int i = 0; i < l_links.size(); i++ )
+            for ( final int j : l_links.get( i ) )
+                l_parent[root( l_parent, j )] = root( l_parent, i );
+
+        return normalize( IntStream.range( 0, l_parent.length ).map( i -> root( l_parent, i ) ).toArray() );
+    }
+
+    /**
+     * calculates the medoids of a distance matrix
+     *
+     * @param p_matrix distance matrix
+     * @param p_number number of medoids
+     * @return row indices of the medoids
+     */
+    @Nonnull
+    private static int[] medoids( @Nonnull final CTriangularMatrix p_matrix, @Nonnegative final int p_number )
+    {
+        final int l_size = p_matrix.size();
+
+        // greedy initialization, each medoid reduces the total distance most
+        final int[] l_medoids = new int[p_number];
+        final double[] l_nearest = new double[l_size];
+        Arrays.fill( l_nearest, Double.POSITIVE_INFINITY );
+        for ( int m = 0; m < p_number; m++ )
+        {
+            int l_candidate = -1;
+            double l_cost = Double.POSITIVE_INFINITY;
+            for ( int i = 0; i < l_size; i++ )
+            {
+                if ( l_nearest[i] == 0 )
+                    continue;
+
+                double l_sum = 0;
+                for ( int j = 0; j < l_size; j++ )
+                    l_sum += Math.min( l_nearest[j], p_matrix.get( i, j ) );
+
+                if ( l_candidate < 0 || l_sum < l_cost )
+                {
+                    l_candidate = i;
+                    l_cost = l_sum;
+                }
+            }
+
+            l_medoids[m] = l_candidate < 0 ? m : l_candidate;
+            for ( int j = 0; j < l_size; j++ )
+                l_nearest[j] = Math.min( l_nearest[j], p_matrix.get( l_medoids[m], j ) );
+        }
+
+        // alternating improvement, each medoid is replaced by the member with the lowest distance sum
+        final int[] l_ids = new int[l_size];
+        for ( int l_iteration = 0; l_iteration < ITERATIONS; l_iteration++ )
+        {
+            for ( int i = 0; i < l_size; i++ )
+                l_ids[i] = nearest( p_matrix, l_medoids, i );
+
+            boolean l_changed = false;
+            for ( int m = 0; m < p_number; m++ )
+            {
+                int l_medoid = l_medoids[m];
+                double l_cost = Double.POSITIVE_INFINITY;
+                for ( int i = 0; i < l_size; i++ )
+                {
+                    if ( l_ids[i] != m )
+                        continue;
+
+                    double l_sum = 0;
+                    for ( int j = 0; j < l_size && l_sum < l_cost; j++ )
+                        if ( l_ids[j] == m )
+                            l_sum += p_matrix.get( i, j );
+
+                    if ( l_sum < l_cost )
+                    {
+                        l_medoid = i;
+                        l_cost = l_sum;
+                    }
+                }
+
+                l_changed |= l_medoid != l_medoids[m];
+                l_medoids[m] = l_medoid;
+            }
+
+            if ( !l_changed )
+                break;
+        }
+
+        return l_medoids;
+    }
+
+    /**
+     * assigns all strings to the nearest medoid
+     *
+     * @param p_parallel parallel execution flag
+     * @param p_strings strings
+     * @param p_distance distance function factory
+     * @param p_medoids string indices of the medoids
+     * @return assignment
+     */
+    @Nonnull
+    private static CAssignment assign( final boolean p_parallel, @Nonnull final List<String> p_strings,
+                                       @Nonnull final Function<String, ToDoubleFunction<String>> p_distance, @Nonnull final int[] p_medoids )
+    {
+        final List<ToDoubleFunction<String>> l_medoids = Arrays.stream( p_medoids )
+                                                               .mapToObj( i -> p_distance.apply( p_strings.get( i ) ) )
+                                                               .collect( Collectors.toList() );
+
+        final List<double[]> l_nearest = CParallel.values(
+            p_parallel,
+            p_strings,
+            i -> {
+                final double[] l_result = {0, Double.POSITIVE_INFINITY};
+                for ( int j = 0; j < l_medoids.size(); j++ )
+                {
+                    final double l_value = l_medoids.get( j ).applyAsDouble( i );
+                    if ( l_value < l_result[1] )
+                    {
+                        l_result[0] = j;
+                        l_result[1] = l_value;
+                    }
+                }
+                return l_result;
+            }
+        );
+
+        return new CAssignment(
+            normalize( l_nearest.stream().mapToInt( i -> (int) i[0] ).toArray() ),
+            l_nearest.stream().mapToDouble( i -> i[1] ).sum()
+        );
+    }
+
+    /**
+     * returns the nearest medoid of a matrix row
+     *
+     * @param p_matrix distance matrix
+     * @param p_medoids medoids
+     * @param p_row row index
+     * @return index of the medoid
+     */
+    private static int nearest( @Nonnull final CTriangularMatrix p_matrix, @Nonnull final int[] p_medoids, final int p_row )
+    {
+        int l_nearest = 0;
+        for ( int i = 1; i < p_medoids.length; i++ )
+            if ( p_matrix.get( p_row, p_medoids[i] ) < p_matrix.get( p_row, p_medoids[l_nearest] ) )
+                l_nearest = i;
+
+        return l_nearest;
+    }
+
+    /**
+     * draws a sample without replacement
+     *
+     * @param p_size number of elements
+     * @param p_samplesize sample size
+     * @param p_random random generator
+     * @return sorted element indices
+     */
+    @Nonnull
+    private static int[] sample( @Nonnegative final int p_size, @Nonnegative final int p_samplesize, @Nonnull final Random p_random )
+    {
+        final int[] l_indices = IntStream.range( 0, p_size ).toArray();
+        for ( int i = 0; i < p_samplesize; i++ )
+        {
+            final int l_swap = i + p_random.nextInt( p_size - i );
+            final int l_value = l_indices[i];
+            l_indices[i] = l_indices[l_swap];
+            l_indices[l_swap] = l_value;
+        }
+
+        return Arrays.stream( l_indices, 0, p_samplesize ).sorted().toArray();
+    }
+
+    /**
+     * returns the root of the union-find structure and compresses the path
+     *
+     * @param p_parent parent indices
+     * @param p_index element index
+     * @return root index
+     */
+    private static int root( @Nonnull final int[] p_parent, final int p_index )
+    {
+        int l_root = p_index;
+        while ( p_parent[l_root] != l_root )
+            l_root = p_parent[l_root];
+
+        for ( int i = p_index; p_parent[i] != l_root; )
+        {
+            final int l_next = p_parent[i];
+            p_parent[i] = l_root;
+            i = l_next;
+        }
+
+        return l_root;
+    }
+
+    /**
+     * numbers the cluster ids by the first string of each cluster
+     *
+     * @param p_ids cluster ids
+     * @return normalized cluster ids
+     */
+    @Nonnull
+    private static int[] normalize( @Nonnull final int[] p_ids )
+    {
+        final int[] l_mapping = new int[p_ids.length == 0 ? 0 : Arrays.stream( p_ids ).max().getAsInt() + 1];
+        Arrays.fill( l_mapping, -1 );
+
+        int l_next = 0;
+        final int[] l_result = new int[p_ids.length];
+        for ( int i = 0; i < p_ids.length; i++ )
+        {
+            if ( l_mapping[p_ids[i]] < 0 )
+                l_mapping[p_ids[i]] = l_next++;
+            l_result[i] = l_mapping[p_ids[i]];
+        }
+
+        return l_result;
+    }
+
+    /**
+     * assignment of strings to medoids
+     */
+    private static final class CAssignment
+    {
+        /**
+         * cluster ids
+         */
+        private final int[] m_ids;
+        /**
+         * total distance to the medoids
+         */
+        private final double m_cost;
+
+        /**
+         * ctor
+         *
+         * @param p_ids cluster ids
+         * @param p_cost total distance
+         */
+        CAssignment( @Nonnull final int[] p_ids, final double p_cost )
+        {
+            m_ids = p_ids;
+            m_cost = p_cost;
+        }
+    }
+
+}
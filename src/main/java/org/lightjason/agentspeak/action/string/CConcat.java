@@ -42,9 +42,12 @@ import java.util.stream.Stream;
 /**
  * action to concat / join all strings.
  * All string arguments will be join to a single
- * result
+ * result, if the first argument is a rope, all other
+ * arguments are appended to the rope and a new rope
+ * is returned
  *
  * {@code S = .string/concat("A", "B", "C");}
+ * {@code R = .string/rope/create("A"); R = .string/concat(R, "B", "C");}
  */
 public final class CConcat extends IBaseAction
 {
@@ -77,11 +80,18 @@ public final class CConcat extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        if ( !l_arguments.isEmpty() && CCommon.isssignableto( l_arguments.get( 0 ), CRope.class ) )
+        {
+            p_return.add( CRawTerm.of( l_arguments.get( 0 ).<CRope>raw().append( l_arguments.stream().skip( 1 ).map( ITerm::raw ) ) ) );
+            return Stream.empty();
+        }
+
         p_return.add( CRawTerm.of(
-            CCommon.flatten( p_argument )
-                   .filter( i -> Objects.nonNull( i.raw() ) )
-                   .map( i -> i.raw().toString() )
-                   .collect( Collectors.joining() )
+            l_arguments.stream()
+                       .filter( i -> Objects.nonNull( i.raw() ) )
+                       .map( i -> i.raw().toString() )
+                       .collect( Collectors.joining() )
         ) );
         return Stream.empty();
     }
@@ -26,7 +26,6 @@ package org.lightjason.agentspeak.action.string;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -76,12 +75,14 @@ public final class CContains extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final String l_string = p_argument.get( 0 ).raw();
+        final String l_string = CArgument.string( p_argument.get( 0 ) );
 
-        CCommon.flatten( p_argument ).skip( 1 )
-               .map( i -> l_string.contains( i.raw() ) )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).skip( 1 ).map( CArgument::string ),
+            l_string::contains,
+            p_return
+        );
 
         return Stream.empty();
     }
@@ -0,0 +1,92 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to check a string for containing any of many strings.
+ * The action checks the first string argument for all other
+ * arguments within a single pass, it returns the boolean result
+ * for each argument in argument order
+ *
+ * {@code [L1|L2|L3] = .string/containsany("this is a long string", "long", "short", "string");}
+ */
+public final class CContainsAny extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3618207712473851092L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CContainsAny.class, "string" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final String l_string = CArgument.string( p_argument.get( 0 ) );
+        final CAhoCorasick l_automaton = CAhoCorasick.of(
+            CCommon.flatten( p_argument ).skip( 1 ).map( CArgument::string ).collect( Collectors.toList() )
+        );
+
+        final boolean[] l_contains = l_automaton.contains( l_string );
+        for ( final boolean l_value : l_contains )
+            p_return.add( CRawTerm.of( l_value ) );
+
+        return Stream.empty();
+    }
+
+}
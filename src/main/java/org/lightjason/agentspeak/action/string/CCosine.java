@@ -0,0 +1,112 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * calculates the cosine similarity.
+ * The action returns the cosine similarity of the character
+ * shingle frequencies between string inputs, for the first string
+ * argument the similarity will be calculated to the rest, an optional
+ * numerical argument defines the shingle size (default 3)
+ *
+ * {@code [A|B] = .string/cosine( "start", "end", "starting" );}
+ * {@code [A|B] = .string/cosine( 2, "start", "end", "starting" );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Cosine_similarity"></a>
+ */
+public final class CCosine extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6163522075291893066L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CCosine.class, "string" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        // extract string arguments
+        final List<String> l_strings = CCommon.flatten( p_argument )
+                                              .filter( i -> CArgument.isstring( i ) )
+                                              .map( CArgument::string )
+                                              .collect( Collectors.toList() );
+
+        if ( l_strings.size() < 2 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentnumberwrong", 2 ) );
+
+        // shingle size
+        final int l_size = CCommon.flatten( p_argument )
+                                  .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                                  .findFirst()
+                                  .map( i -> i.<Number>raw().intValue() )
+                                  .orElse( CShingle.DEFAULTSIZE );
+
+        // the reference is shingled once
+        final CTermVector l_reference = new CTermVector( l_strings.get( 0 ), l_size );
+        p_return.addAll(
+            CParallel.map(
+                p_parallel,
+                l_strings.subList( 1, l_strings.size() ),
+                i -> l_reference.cosine( new CTermVector( i, l_size ) )
+            )
+        );
+
+        return Stream.empty();
+    }
+}
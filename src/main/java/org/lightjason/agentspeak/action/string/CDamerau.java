@@ -0,0 +1,117 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * calculates the damerau-levenshtein distance.
+ * The action returns the optimal-string-alignment distance
+ * between string inputs, for the first string argument
+ * the distance will be calculated to the rest, if there
+ * are numerical arguments the first will be used for the
+ * inserting weight, second replace weight, third delete weight,
+ * fourth transpose weight and the fifth for the maximum distance,
+ * distances greater than the maximum are returned as infinity
+ *
+ * {@code [A|B] = .string/damerau( "start", "tsart", "starting" );}
+ * {@code [A|B] = .string/damerau( 1,1,1,1,2, "start", "tsart", "starting" );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Damerau%E2%80%93Levenshtein_distance"></a>
+ */
+public final class CDamerau extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4718202634457113526L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CDamerau.class, "string" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        // extract string arguments
+        final List<String> l_strings = CCommon.flatten( p_argument )
+                                              .filter( i -> CArgument.isstring( i ) )
+                                              .map( CArgument::string )
+                                              .collect( Collectors.toList() );
+
+        if ( l_strings.size() < 2 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentnumberwrong", 2 ) );
+
+
+        // create weights and maximum distance, missing weights are set to one
+        final CDamerauEngine l_engine = CDamerauEngine.of(
+            CCommon.flatten( p_argument )
+                   .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                   .map( ITerm::<Number>raw )
+                   .mapToDouble( Number::doubleValue )
+                   .toArray()
+        );
+
+        // create distance
+        p_return.addAll(
+            CParallel.map(
+                p_parallel,
+                l_strings.subList( 1, l_strings.size() ),
+                i -> l_engine.distance( l_strings.get( 0 ), i )
+            )
+        );
+
+        return Stream.empty();
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * weighted damerau-levenshtein distance with optimal string alignment.
+ * The distance is calculated with three rows, which are reused for
+ * each thread, a transposition of two adjacent characters is a single
+ * edit, but a substring can be edited only once, if a maximum distance
+ * is set the calculation stops if all cells of two consecutive rows
+ * exceed the maximum
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Damerau%E2%80%93Levenshtein_distance"></a>
+ */
+public final class CDamerauEngine
+{
+    /**
+     * distance value if the maximum is exceeded
+     */
+    public static final double EXCEEDED = Double.POSITIVE_INFINITY;
+    /**
+     * row buffers of each thread
+     */
+    private static final ThreadLocal<double[][]> BUFFER = ThreadLocal.withInitial( () -> new double[3][64] );
+    /**
+     * insert weight
+     */
+    private final double m_insert;
+    /**
+     * replace weight
+     */
+    private final double m_replace;
+    /**
+     * delete weight
+     */
+    private final double m_delete;
+    /**
+     * transpose weight
+     */
+    private final double m_transpose;
+    /**
+     * maximum distance
+     */
+    private final double m_maximum;
+
+    /**
+     * ctor
+     *
+     * @param p_insert insert weight
+     * @param p_replace replace weight
+     * @param p_delete delete weight
+     * @param p_transpose transpose weight
+     */
+    public CDamerauEngine( final double p_insert, final double p_replace, final double p_delete, final double p_transpose )
+    {
+        this( p_insert, p_replace, p_delete, p_transpose, EXCEEDED );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_insert insert weight
+     * @param p_replace replace weight
+     * @param p_delete delete weight
+     * @param p_transpose transpose weight
+     * @param p_maximum maximum distance
+     */
+    public CDamerauEngine( final double p_insert, final double p_replace, final double p_delete, final double p_transpose, final double p_maximum )
+    {
+        m_insert = p_insert;
+        m_replace = p_replace;
+        m_delete = p_delete;
+        m_transpose = p_transpose;
+        m_maximum = p_insert < 0 || p_replace < 0 || p_delete < 0 || p_transpose < 0 ? EXCEEDED : p_maximum;
+    }
+
+    /**
+     * creates an engine from numerical arguments
+     *
+     * @param p_values insert, replace, delete and transpose weight and maximum distance, missing weights are set to one
+     * @return engine
+     */
+    @Nonnull
+    public static CDamerauEngine of( @Nonnull final double[] p_values )
+    {
+        return new CDamerauEngine(
+            p_values.length > 0 ? p_values[0] : 1,
+            p_values.length > 1 ? p_values[1] : 1,
+            p_values.length > 2 ? p_values[2] : 1,
+            p_values.length > 3 ? p_values[3] : 1,
+            p_values.length > 4 ? p_values[4] : EXCEEDED
+        );
+    }
+
+    /**
+     * returns the maximum distance
+     *
+     * @return maximum
+     */
+    public double maximum()
+    {
+        return m_maximum;
+    }
+
+    /**
+     * calculates the distance
+     *
+     * @param p_first first string
+     * @param p_second second string
+     * @return distance or EXCEEDED if the distance is greater than the maximum
+     */
+    public double distance( @Nonnull final String p_first, @Nonnull final String p_second )
+    {
+        final int l_first = p_first.length();
+        final int l_second = p_second.length();
+
+        // the length difference needs at least this number of gap operations
+        if ( Math.abs( l_first - l_second ) * Math.min( m_insert, m_delete ) > m_maximum )
+            return EXCEEDED;
+
+        double[] l_previous = this.row( 0, l_first );
+        double[] l_cost = this.row( 1, l_first );
+        double[] l_newcost = this.row( 2, l_first );
+
+        for ( int i = 0; i <= l_first; i++ )
+            l_cost[i] = i * m_delete;
+        double l_lastminimum = 0;
+
+        for ( int j = 1; j <= l_second; j++ )
+        {
+            final char l_char = p_second.charAt( j - 1 );
+            l_newcost[0] = j * m_insert;
+            double l_minimum = l_newcost[0];
+
+            for ( int i = 1; i <= l_first; i++ )
+            {
+                double l_value = Math.min(
+                    Math.min(
+                        l_cost[i - 1] + ( p_first.charAt( i - 1 ) == l_char ? 0 : m_replace ),
+                        l_newcost[i - 1] + m_delete
+                    ),
+                    l_cost[i] + m_insert
+                );
+
+                if ( i > 1 && j > 1 && p_first.charAt( i - 1 ) == p_second.charAt( j - 2 ) && p_first.charAt( i - 2 ) == l_char )
+                    l_value = Math.min( l_value, l_previous[i - 2] + m_transpose );
+
+                l_newcost[i] = l_value;
+                l_minimum = Math.min( l_minimum, l_value );
+            }
+
+            // a transposition reaches back two rows, so both rows must exceed the maximum
+            if ( l_minimum > m_maximum && l_lastminimum > m_maximum )
+                return EXCEEDED;
+            l_lastminimum = l_minimum;
+
+            final double[] l_swap = l_previous;
+            l_previous = l_cost;
+            l_cost = l_newcost;
+            l_newcost = l_swap;
+        }
+
+        return l_cost[l_first] > m_maximum ? EXCEEDED : l_cost[l_first];
+    }
+
+    /**
+     * returns a reusable row of the current thread
+     *
+     * @param p_index row index
+     * @param p_length string length
+     * @return row with at least length + 1 cells
+     */
+    @Nonnull
+    private double[] row( final int p_index, final int p_length )
+    {
+        final double[][] l_buffer = BUFFER.get();
+        if ( l_buffer[p_index].length < p_length + 1 )
+            l_buffer[p_index] = new double[Math.max( p_length + 1, 2 * l_buffer[p_index].length )];
+
+        return l_buffer[p_index];
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * calculates the distance matrix of strings.
+ * The action returns a symmetric matrix of the pairwise
+ * distances between all string arguments, if the first string
+ * argument is a metric ( LEVENSHTEIN | DAMERAU ) or a compression
+ * algorithm ( BZIP | GZIP | DEFLATE | PACK200 | XZ ), it defines the
+ * distance, otherwise the levenshtein distance is used, numerical
+ * arguments are the weights and the maximum distance of the
+ * levenshtein and damerau distance, each distance is calculated
+ * once, the matrix can be read with the matrix actions
+ *
+ * {@code M = .string/distancematrix( "start", "end", "starting" );}
+ * {@code M = .string/distancematrix( "damerau", 1, 1, 1, 1, "start", "tsart", "starting" );}
+ * {@code M = .string/distancematrix( "gzip", "foo bar", "test foo", "bar foo" );}
+ */
+public final class CDistanceMatrix extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6602785934618834121L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CDistanceMatrix.class, "string" );
+    /**
+     * levenshtein metric name
+     */
+    static final String LEVENSHTEIN = "levenshtein";
+    /**
+     * damerau metric name
+     */
+    private static final String DAMERAU = "damerau";
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<String> l_strings = CCommon.flatten( p_argument )
+                                              .filter( i -> CArgument.isstring( i ) )
+                                              .map( CArgument::string )
+                                              .collect( Collectors.toList() );
+
+        final double[] l_values = CCommon.flatten( p_argument )
+                                         .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                                         .map( ITerm::<Number>raw )
+                                         .mapToDouble( Number::doubleValue )
+                                         .toArray();
+
+        // metric is defined by the first string
+        final String l_metric = l_strings.isEmpty() ? "" : l_strings.get( 0 ).trim().toLowerCase( Locale.ROOT );
+        final Function<String, ToDoubleFunction<String>> l_distance = distance( l_metric, l_values );
+        final List<String> l_input = l_distance == null ? l_strings : l_strings.subList( 1, l_strings.size() );
+
+        try
+        {
+            p_return.add(
+                CRawTerm.of(
+                    CTriangularMatrix.of(
+                        p_parallel,
+                        l_input,
+                        l_distance == null ? distance( LEVENSHTEIN, l_values ) : l_distance
+                    )
+                )
+            );
+        }
+        catch ( final IllegalArgumentException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * creates the distance function factory of a metric
+     *
+     * @param p_metric metric name
+     * @param p_values numerical arguments
+     * @return factory or null if the metric does not exist
+     */
+    @Nullable
+    static Function<String, ToDoubleFunction<String>> distance( @Nonnull final String p_metric, @Nonnull final double[] p_values )
+    {
+        if ( LEVENSHTEIN.equals( p_metric ) )
+        {
+            final CLevenshteinEngine l_engine = CLevenshteinEngine.of( p_values );
+            return i -> j -> l_engine.distance( i, j );
+        }
+
+        if ( DAMERAU.equals( p_metric ) )
+        {
+            final CDamerauEngine l_engine = CDamerauEngine.of( p_values );
+            return i -> j -> l_engine.distance( i, j );
+        }
+
+        if ( CCommon.ECompression.exist( p_metric ) )
+        {
+            final CCommon.ECompression l_compression = CCommon.ECompression.of( p_metric );
+            return i -> new CNCDEngine( l_compression, i )::distance;
+        }
+
+        return null;
+    }
+
+}
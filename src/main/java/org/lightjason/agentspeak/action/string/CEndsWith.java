@@ -34,13 +34,15 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * action to check string for ends-with.
  * The acion checks the string, that is the first argument,
- * with each other arguments for the operation ends-with
+ * with each other arguments for the operation ends-with,
+ * for many arguments the check uses a cached suffix trie
  *
  * {@code [L1|L2] = .string/endswith("this is a long string", "long string", "string");}
  */
@@ -75,12 +77,15 @@ public final class CEndsWith extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final String l_string = p_argument.get( 0 ).raw();
+        final String l_string = CArgument.string( p_argument.get( 0 ) );
 
-        CCommon.flatten( p_argument ).skip( 1 )
-               .map( i -> l_string.endsWith( i.raw() ) )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final List<String> l_suffixes = CCommon.flatten( p_argument ).skip( 1 ).map( CArgument::string ).collect( Collectors.toList() );
+
+        if ( l_suffixes.size() < CPrefixTrie.MINIMALSIZE )
+            p_return.addAll( CParallel.map( p_parallel, l_suffixes, l_string::endsWith ) );
+        else
+            for ( final boolean l_value : CPrefixTrie.suffix( l_suffixes ).matches( l_string ) )
+                p_return.add( CRawTerm.of( l_value ) );
 
         return Stream.empty();
     }
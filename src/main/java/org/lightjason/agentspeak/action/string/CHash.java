@@ -0,0 +1,96 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.hash.EHash;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * hashes strings.
+ * The first argument is the hash algorithm ( XXHASH64 | MURMUR3 | SHA256 ),
+ * all other arguments are strings, the action returns the hexadecimal hash
+ * of the utf-8 bytes of each string
+ *
+ * {@code [A|B] = .string/hash( "xxhash64", "foo", "bar" );}
+ * {@code [A|B] = .string/hash( "sha256", "foo", "bar" );}
+ */
+public final class CHash extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2839024473626104471L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CHash.class, "string" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final String l_name = p_argument.get( 0 ).raw();
+        if ( !EHash.exist( l_name ) )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownalgorithm", l_name ) );
+
+        final EHash l_hash = EHash.of( l_name );
+
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).skip( 1 ).map( CArgument::string ),
+            l_hash::apply,
+            p_return
+        );
+
+        return Stream.empty();
+    }
+
+}
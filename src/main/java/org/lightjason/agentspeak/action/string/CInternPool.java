@@ -0,0 +1,279 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * weak-referenced intern pool of strings.
+ * Equal strings, which are returned by the actions, are replaced
+ * by a single instance, so beliefs of many agents share the strings,
+ * the pool references the strings weakly, so unused strings will be
+ * removed by the garbage collector, the pool is enabled by the
+ * configuration key string.intern
+ */
+public final class CInternPool
+{
+    /**
+     * configuration key
+     */
+    public static final String CONFIGURATION = "string.intern";
+    /**
+     * enabled flag
+     */
+    private static final AtomicBoolean ENABLED = new AtomicBoolean( configuration() );
+    /**
+     * pooled strings
+     */
+    private static final Map<CWeakKey, CWeakKey> POOL = new ConcurrentHashMap<>();
+    /**
+     * queue of collected strings
+     */
+    private static final ReferenceQueue<String> QUEUE = new ReferenceQueue<>();
+    /**
+     * number of requests
+     */
+    private static final LongAdder REQUESTS = new LongAdder();
+    /**
+     * number of deduplicated strings
+     */
+    private static final LongAdder DEDUPLICATIONS = new LongAdder();
+
+    /**
+     * ctor
+     */
+    private CInternPool()
+    {
+    }
+
+    /**
+     * returns the enabled flag
+     *
+     * @return enabled flag
+     */
+    public static boolean enabled()
+    {
+        return ENABLED.get();
+    }
+
+    /**
+     * sets the enabled flag
+     *
+     * @param p_enabled enabled flag
+     */
+    public static void enabled( final boolean p_enabled )
+    {
+        ENABLED.set( p_enabled );
+    }
+
+    /**
+     * interns a string if the pool is enabled
+     *
+     * @param p_string string
+     * @return pooled or input string
+     */
+    @Nonnull
+    public static String apply( @Nonnull final String p_string )
+    {
+        return ENABLED.get() ? intern( p_string ) : p_string;
+    }
+
+    /**
+     * interns a string
+     *
+     * @param p_string string
+     * @return pooled string
+     */
+    @Nonnull
+    public static String intern( @Nonnull final String p_string )
+    {
+        expunge();
+        REQUESTS.increment();
+
+        final CWeakKey l_key = new CWeakKey( p_string, QUEUE );
+        while ( true )
+        {
+            final CWeakKey l_pooled = POOL.putIfAbsent( l_key, l_key );
+            if ( Objects.isNull( l_pooled ) )
+                return p_string;
+
+            final String l_string = l_pooled.get();
+            if ( Objects.nonNull( l_string ) )
+            {
+                DEDUPLICATIONS.increment();
+                return l_string;
+            }
+
+            POOL.remove( l_pooled, l_pooled );
+        }
+    }
+
+    /**
+     * returns the number of pooled strings
+     *
+     * @return size
+     */
+    @Nonnegative
+    public static int size()
+    {
+        expunge();
+        return POOL.size();
+    }
+
+    /**
+     * returns the ratio of deduplicated strings
+     *
+     * @return ratio of requests, which return a pooled string
+     */
+    public static double ratio()
+    {
+        final long l_requests = REQUESTS.sum();
+        return l_requests == 0 ? 0 : DEDUPLICATIONS.sum() / (double) l_requests;
+    }
+
+    /**
+     * creates a snapshot of the statistic
+     *
+     * @return unmodifiable map with values
+     */
+    @Nonnull
+    public static Map<String, Number> snapshot()
+    {
+        final Map<String, Number> l_snapshot = new LinkedHashMap<>();
+
+        l_snapshot.put( "size", size() );
+        l_snapshot.put( "requests", REQUESTS.sum() );
+        l_snapshot.put( "deduplications", DEDUPLICATIONS.sum() );
+        l_snapshot.put( "ratio", ratio() );
+
+        return Collections.unmodifiableMap( l_snapshot );
+    }
+
+    /**
+     * clears the pool and the statistic
+     */
+    public static void clear()
+    {
+        POOL.clear();
+        expunge();
+        REQUESTS.reset();
+        DEDUPLICATIONS.reset();
+    }
+
+    /**
+     * removes collected strings
+     */
+    private static void expunge()
+    {
+        for ( Reference<? extends String> l_key = QUEUE.poll(); Objects.nonNull( l_key ); l_key = QUEUE.poll() )
+            POOL.remove( l_key, l_key );
+    }
+
+    /**
+     * reads the enabled flag of the configuration
+     *
+     * @return enabled flag
+     */
+    private static boolean configuration()
+    {
+        try
+        {
+            for ( final URL l_url : Collections.list(
+                CInternPool.class.getClassLoader().getResources( "org/lightjason/agentspeak/configuration.properties" ) ) )
+                try ( InputStream l_stream = l_url.openStream() )
+                {
+                    final Properties l_properties = new Properties();
+                    l_properties.load( l_stream );
+                    if ( l_properties.containsKey( CONFIGURATION ) )
+                        return Boolean.parseBoolean( l_properties.getProperty( CONFIGURATION ).trim() );
+                }
+        }
+        catch ( final IOException l_exception )
+        {
+            return false;
+        }
+
+        return false;
+    }
+
+    /**
+     * weak key of a string, two keys are equal
+     * if they are identical or reference equal strings
+     */
+    private static final class CWeakKey extends WeakReference<String>
+    {
+        /**
+         * hash code of the string
+         */
+        private final int m_hash;
+
+        /**
+         * ctor
+         *
+         * @param p_string string
+         * @param p_queue reference queue
+         */
+        CWeakKey( @Nonnull final String p_string, @Nonnull final ReferenceQueue<String> p_queue )
+        {
+            super( p_string, p_queue );
+            m_hash = p_string.hashCode();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return m_hash;
+        }
+
+        @Override
+        public boolean equals( @Nullable final Object p_object )
+        {
+            if ( this == p_object )
+                return true;
+            if ( !( p_object instanceof CWeakKey ) )
+                return false;
+
+            final String l_string = this.get();
+            return Objects.nonNull( l_string ) && l_string.equals( ( (CWeakKey) p_object ).get() );
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * calculates the jaro-winkler similarity.
+ * The action returns the jaro-winkler similarity
+ * between string inputs, for the first string
+ * argument the similarity will be calculated to the rest,
+ * if there are numerical arguments the first will be used
+ * for the prefix scale within [0, 0.25] (default 0.1) and the
+ * second for the minimum similarity, similarities lower than
+ * the minimum are returned as zero
+ *
+ * {@code [A|B] = .string/jarowinkler( "martha", "marhta", "dwayne" );}
+ * {@code [A|B] = .string/jarowinkler( 0.1, 0.9, "martha", "marhta", "dwayne" );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Jaro%E2%80%93Winkler_distance"></a>
+ */
+public final class CJaroWinkler extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2391559047281653164L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CJaroWinkler.class, "string" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        // extract string arguments
+        final List<String> l_strings = CCommon.flatten( p_argument )
+                                              .filter( i -> CArgument.isstring( i ) )
+                                              .map( CArgument::string )
+                                              .collect( Collectors.toList() );
+
+        if ( l_strings.size() < 2 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentnumberwrong", 2 ) );
+
+
+        // create prefix scale and minimum similarity
+        final double[] l_values = CCommon.flatten( p_argument )
+                                         .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                                         .map( ITerm::<Number>raw )
+                                         .mapToDouble( Number::doubleValue )
+                                         .toArray();
+
+        if ( l_values.length > 0 && ( l_values[0] < 0 || l_values[0] > CJaroWinklerEngine.MAXIMUMSCALE ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongscale", l_values[0], CJaroWinklerEngine.MAXIMUMSCALE )
+            );
+
+        final CJaroWinklerEngine l_engine = CJaroWinklerEngine.of( l_values );
+
+        // create similarity
+        p_return.addAll(
+            CParallel.map(
+                p_parallel,
+                l_strings.subList( 1, l_strings.size() ),
+                i -> l_engine.similarity( l_strings.get( 0 ), i )
+            )
+        );
+
+        return Stream.empty();
+    }
+}
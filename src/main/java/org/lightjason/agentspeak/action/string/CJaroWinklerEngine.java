@@ -0,0 +1,240 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+
+/**
+ * jaro-winkler similarity.
+ * The matching flags are reused for each thread, if a minimum
+ * similarity is set, the calculation stops as soon as the
+ * similarity cannot reach the minimum, because the upper bound
+ * of the matches is lower than the needed number
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Jaro%E2%80%93Winkler_distance"></a>
+ */
+public final class CJaroWinklerEngine
+{
+    /**
+     * default prefix scale
+     */
+    public static final double DEFAULTSCALE = 0.1;
+    /**
+     * maximum prefix scale
+     */
+    public static final double MAXIMUMSCALE = 0.25;
+    /**
+     * similarity value if the minimum is not reached
+     */
+    public static final double UNREACHED = 0;
+    /**
+     * jaro similarity which must be exceeded for the prefix bonus
+     */
+    private static final double BOOSTTHRESHOLD = 0.7;
+    /**
+     * maximum length of the common prefix
+     */
+    private static final int PREFIXLENGTH = 4;
+    /**
+     * matching flag buffers of each thread
+     */
+    private static final ThreadLocal<boolean[][]> BUFFER = ThreadLocal.withInitial( () -> new boolean[2][64] );
+    /**
+     * prefix scale
+     */
+    private final double m_scale;
+    /**
+     * minimum similarity
+     */
+    private final double m_minimum;
+
+    /**
+     * ctor
+     *
+     * @param p_scale prefix scale
+     */
+    public CJaroWinklerEngine( final double p_scale )
+    {
+        this( p_scale, UNREACHED );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_scale prefix scale
+     * @param p_minimum minimum similarity
+     */
+    public CJaroWinklerEngine( final double p_scale, final double p_minimum )
+    {
+        if ( p_scale < 0 || p_scale > MAXIMUMSCALE )
+            throw new IllegalArgumentException( "prefix scale must be within [0, 0.25]" );
+
+        m_scale = p_scale;
+        m_minimum = p_minimum;
+    }
+
+    /**
+     * creates an engine from numerical arguments
+     *
+     * @param p_values prefix scale and minimum similarity, a missing scale is set to the default
+     * @return engine
+     */
+    @Nonnull
+    public static CJaroWinklerEngine of( @Nonnull final double[] p_values )
+    {
+        return new CJaroWinklerEngine(
+            p_values.length > 0 ? p_values[0] : DEFAULTSCALE,
+            p_values.length > 1 ? p_values[1] : UNREACHED
+        );
+    }
+
+    /**
+     * returns the minimum similarity
+     *
+     * @return minimum
+     */
+    public double minimum()
+    {
+        return m_minimum;
+    }
+
+    /**
+     * calculates the similarity
+     *
+     * @param p_first first string
+     * @param p_second second string
+     * @return similarity within [0, 1] or UNREACHED if the similarity is lower than the minimum
+     */
+    public double similarity( @Nonnull final String p_first, @Nonnull final String p_second )
+    {
+        if ( p_first.equals( p_second ) )
+            return 1;
+
+        final int l_first = p_first.length();
+        final int l_second = p_second.length();
+        if ( l_first == 0 || l_second == 0 )
+            return UNREACHED;
+
+        // common prefix is known before matching, so the bound includes the bonus
+        final int l_prefixlength = Math.min( PREFIXLENGTH, Math.min( l_first, l_second ) );
+        int l_prefix = 0;
+        while ( l_prefix < l_prefixlength && p_first.charAt( l_prefix ) == p_second.charAt( l_prefix ) )
+            l_prefix++;
+
+        if ( this.winkler( jaro( Math.min( l_first, l_second ), 0, l_first, l_second ), l_prefix ) < m_minimum )
+            return UNREACHED;
+
+        final boolean[] l_firstmatch = this.flags( 0, l_first );
+        final boolean[] l_secondmatch = this.flags( 1, l_second );
+        final int l_window = Math.max( 0, Math.max( l_first, l_second ) / 2 - 1 );
+
+        int l_matches = 0;
+        for ( int i = 0; i < l_first; i++ )
+        {
+            final char l_char = p_first.charAt( i );
+            final int l_upper = Math.min( l_second, i + l_window + 1 );
+            for ( int j = Math.max( 0, i - l_window ); j < l_upper; j++ )
+                if ( !l_secondmatch[j] && p_second.charAt( j ) == l_char )
+                {
+                    l_firstmatch[i] = true;
+                    l_secondmatch[j] = true;
+                    l_matches++;
+                    break;
+                }
+
+            // each remaining character can add at most one match
+            if ( this.winkler( jaro( Math.min( l_matches + l_first - i - 1, l_second ), 0, l_first, l_second ), l_prefix ) < m_minimum )
+                return UNREACHED;
+        }
+
+        if ( l_matches == 0 )
+            return UNREACHED;
+
+        int l_transpositions = 0;
+        for ( int i = 0, j = 0; i < l_first; i++ )
+        {
+            if ( !l_firstmatch[i] )
+                continue;
+
+            while ( !l_secondmatch[j] )
+                j++;
+
+            if ( p_first.charAt( i ) != p_second.charAt( j ) )
+                l_transpositions++;
+            j++;
+        }
+
+        final double l_similarity = this.winkler( jaro( l_matches, l_transpositions / 2, l_first, l_second ), l_prefix );
+        return l_similarity < m_minimum ? UNREACHED : l_similarity;
+    }
+
+    /**
+     * calculates the jaro similarity
+     *
+     * @param p_matches number of matches
+     * @param p_transpositions number of transpositions
+     * @param p_first length of the first string
+     * @param p_second length of the second string
+     * @return jaro similarity
+     */
+    private static double jaro( final int p_matches, final int p_transpositions, final int p_first, final int p_second )
+    {
+        return p_matches == 0
+               ? 0
+               : ( (double) p_matches / p_first + (double) p_matches / p_second + (double) ( p_matches - p_transpositions ) / p_matches ) / 3;
+    }
+
+    /**
+     * adds the prefix bonus
+     *
+     * @param p_jaro jaro similarity
+     * @param p_prefix length of the common prefix
+     * @return jaro-winkler similarity
+     */
+    private double winkler( final double p_jaro, final int p_prefix )
+    {
+        return p_jaro > BOOSTTHRESHOLD ? p_jaro + p_prefix * m_scale * ( 1 - p_jaro ) : p_jaro;
+    }
+
+    /**
+     * returns cleared matching flags of the current thread
+     *
+     * @param p_index buffer index
+     * @param p_length string length
+     * @return flags with at least length cells
+     */
+    @Nonnull
+    private boolean[] flags( final int p_index, final int p_length )
+    {
+        final boolean[][] l_buffer = BUFFER.get();
+        if ( l_buffer[p_index].length < p_length )
+            l_buffer[p_index] = new boolean[Math.max( p_length, 2 * l_buffer[p_index].length )];
+        else
+            Arrays.fill( l_buffer[p_index], 0, p_length, false );
+
+        return l_buffer[p_index];
+    }
+
+}
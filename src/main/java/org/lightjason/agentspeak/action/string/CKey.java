@@ -0,0 +1,98 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action to create grouping keys of strings.
+ * The first argument is the key ( SOUNDEX | METAPHONE | DOUBLEMETAPHONE |
+ * DOUBLEMETAPHONEALTERNATE | NFKC | ACCENTFOLD | CASEFOLD | NORMALIZE ),
+ * for each other argument the key is returned, so strings can be grouped
+ * and compared with an expensive distance only within a group, normalize
+ * runs nfkc, accent and case folding
+ *
+ * {@code [A|B] = .string/key( "doublemetaphone", "Schmidt", "Smith" );}
+ * {@code [A|B] = .string/key( "normalize", "Crème Brûlée", "CREME BRULEE" );}
+ */
+public final class CKey extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4671305592816220134L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CKey.class, "string" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final String l_name = p_argument.get( 0 ).raw();
+        if ( !EKey.exist( l_name ) )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownkey", l_name ) );
+
+        final EKey l_key = EKey.of( l_name );
+
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).skip( 1 ).map( CArgument::string ),
+            i -> CInternPool.apply( l_key.apply( i ) ),
+            p_return
+        );
+
+        return Stream.empty();
+    }
+
+}
@@ -32,7 +32,9 @@ import java.util.stream.Stream;
 
 
 /**
- * stream of string
+ * stream of string.
+ * The string is streamed by code points, so surrogate pairs
+ * are not splitted, strings of latin-1 characters are shared
  */
 public final class CLambdaStreaming extends IBaseLambdaStreaming<String>
 {
@@ -40,14 +42,15 @@ public final class CLambdaStreaming extends IBaseLambdaStreaming<String>
      * serial id
      */
     private static final long serialVersionUID = -7098550858640627710L;
+    /**
+     * shared strings of latin-1 characters
+     */
+    private static final String[] CHARACTERS = IntStream.range( 0, 256 ).mapToObj( i -> String.valueOf( (char) i ).intern() ).toArray( String[]::new );
 
     @Override
     public Stream<?> apply( @Nonnull final String p_value )
     {
-        return IntStream.range( 0, p_value.length() )
-                        .boxed()
-                        .map( p_value::charAt )
-                        .map( String::valueOf );
+        return codepoints( p_value );
     }
 
     @NonNull
@@ -56,4 +59,28 @@ public final class CLambdaStreaming extends IBaseLambdaStreaming<String>
     {
         return Stream.of( String.class );
     }
+
+    /**
+     * stream of single code point strings
+     *
+     * @param p_value string
+     * @return string stream
+     */
+    @Nonnull
+    public static Stream<String> codepoints( @Nonnull final String p_value )
+    {
+        return p_value.codePoints().mapToObj( CLambdaStreaming::character );
+    }
+
+    /**
+     * returns the string of a code point
+     *
+     * @param p_codepoint code point
+     * @return string
+     */
+    @Nonnull
+    public static String character( final int p_codepoint )
+    {
+        return p_codepoint < CHARACTERS.length ? CHARACTERS[p_codepoint] : new String( Character.toChars( p_codepoint ) );
+    }
 }
@@ -27,7 +27,6 @@ import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -36,7 +35,6 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -46,10 +44,12 @@ import java.util.stream.Stream;
  * between string inputs, for the first string
  * argument the distance will be calculated to the rest,
  * if there are numerical arguments the first will be used
- * for the inserting weight, second replace weight and third
- * for the delete weight
+ * for the inserting weight, second replace weight, third
+ * for the delete weight and the fourth for the maximum distance,
+ * distances greater than the maximum are returned as infinity
  *
  * {@code [A|B] = .string/levenshtein( 1,1.5,3, "start", "end", "starting" );}
+ * {@code [A|B] = .string/levenshtein( 1,1,1,2, "start", "end", "starting" );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Levenshtein_distance"></a>
  */
@@ -86,32 +86,31 @@ public final class CLevenshtein extends IBaseAction
     {
         // extract string arguments
         final List<String> l_strings = CCommon.flatten( p_argument )
-                                              .filter( i -> CCommon.isssignableto( i, String.class ) )
-                                              .map( ITerm::<String>raw )
+                                              .filter( i -> CArgument.isstring( i ) )
+                                              .map( CArgument::string )
                                               .collect( Collectors.toList() );
 
         if ( l_strings.size() < 2 )
             throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentnumberwrong", 2 ) );
 
 
-        // create weight
-        final List<Double> l_weights = CCommon.flatten( p_argument )
-                                              .filter( i -> CCommon.isssignableto( i, Number.class ) )
-                                              .map( ITerm::<Number>raw )
-                                              .mapToDouble( Number::doubleValue )
-                                              .boxed()
-                                              .collect( Collectors.toList() );
-
-        // if weights not set, set defaults
-        IntStream.range( l_weights.size(), 3 ).forEach( i -> l_weights.add( 1.0 ) );
+        // create weights and maximum distance, missing weights are set to one
+        final CLevenshteinEngine l_engine = CLevenshteinEngine.of(
+            CCommon.flatten( p_argument )
+                   .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                   .map( ITerm::<Number>raw )
+                   .mapToDouble( Number::doubleValue )
+                   .toArray()
+        );
 
         // create distance
-        l_strings.stream()
-                 .skip( 1 )
-                 .mapToDouble( i -> CCommon.levenshtein( l_strings.get( 0 ), i, l_weights.get( 1 ), l_weights.get( 1 ), l_weights.get( 2 ) ) )
-                 .boxed()
-                 .map( CRawTerm::of )
-                 .forEach( p_return::add );
+        p_return.addAll(
+            CParallel.map(
+                p_parallel,
+                l_strings.subList( 1, l_strings.size() ),
+                i -> l_engine.distance( l_strings.get( 0 ), i )
+            )
+        );
 
         return Stream.empty();
     }
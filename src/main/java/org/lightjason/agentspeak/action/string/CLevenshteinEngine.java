@@ -0,0 +1,199 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * weighted levenshtein distance.
+ * The distance is calculated with two rows, which are reused
+ * for each thread, if a maximum distance is set, only the band
+ * of cells which can be within the maximum is calculated and
+ * the calculation stops if all cells of a row exceed the maximum
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Levenshtein_distance"></a>
+ */
+public final class CLevenshteinEngine
+{
+    /**
+     * distance value if the maximum is exceeded
+     */
+    public static final double EXCEEDED = Double.POSITIVE_INFINITY;
+    /**
+     * row buffers of each thread
+     */
+    private static final ThreadLocal<double[][]> BUFFER = ThreadLocal.withInitial( () -> new double[2][64] );
+    /**
+     * insert weight
+     */
+    private final double m_insert;
+    /**
+     * replace weight
+     */
+    private final double m_replace;
+    /**
+     * delete weight
+     */
+    private final double m_delete;
+    /**
+     * maximum distance
+     */
+    private final double m_maximum;
+
+    /**
+     * ctor
+     *
+     * @param p_insert insert weight
+     * @param p_replace replace weight
+     * @param p_delete delete weight
+     */
+    public CLevenshteinEngine( final double p_insert, final double p_replace, final double p_delete )
+    {
+        this( p_insert, p_replace, p_delete, EXCEEDED );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_insert insert weight
+     * @param p_replace replace weight
+     * @param p_delete delete weight
+     * @param p_maximum maximum distance
+     */
+    public CLevenshteinEngine( final double p_insert, final double p_replace, final double p_delete, final double p_maximum )
+    {
+        m_insert = p_insert;
+        m_replace = p_replace;
+        m_delete = p_delete;
+        m_maximum = p_insert < 0 || p_replace < 0 || p_delete < 0 ? EXCEEDED : p_maximum;
+    }
+
+    /**
+     * creates an engine from numerical arguments
+     *
+     * @param p_values insert, replace and delete weight and maximum distance, missing weights are set to one
+     * @return engine
+     */
+    @Nonnull
+    public static CLevenshteinEngine of( @Nonnull final double[] p_values )
+    {
+        return new CLevenshteinEngine(
+            p_values.length > 0 ? p_values[0] : 1,
+            p_values.length > 1 ? p_values[1] : 1,
+            p_values.length > 2 ? p_values[2] : 1,
+            p_values.length > 3 ? p_values[3] : EXCEEDED
+        );
+    }
+
+    /**
+     * returns the maximum distance
+     *
+     * @return maximum
+     */
+    public double maximum()
+    {
+        return m_maximum;
+    }
+
+    /**
+     * calculates the distance
+     *
+     * @param p_first first string
+     * @param p_second second string
+     * @return distance or EXCEEDED if the distance is greater than the maximum
+     */
+    public double distance( @Nonnull final String p_first, @Nonnull final String p_second )
+    {
+        final int l_first = p_first.length();
+        final int l_second = p_second.length();
+
+        // band width depends on the cheapest gap operation, zero cost disables the band
+        final double l_gap = Math.min( m_insert, m_delete );
+        final int l_band = Double.isInfinite( m_maximum ) || l_gap <= 0 ? Integer.MAX_VALUE : (int) Math.min( Integer.MAX_VALUE, Math.floor( m_maximum / l_gap ) );
+        if ( l_band != Integer.MAX_VALUE && Math.abs( l_first - l_second ) > l_band )
+            return EXCEEDED;
+
+        double[] l_cost = this.row( 0, l_first );
+        double[] l_newcost = this.row( 1, l_first );
+
+        final int l_initial = (int) Math.min( l_first, (long) l_band );
+        for ( int i = 0; i <= l_initial; i++ )
+            l_cost[i] = i * m_delete;
+        if ( l_initial < l_first )
+            l_cost[l_initial + 1] = EXCEEDED;
+
+        for ( int j = 1; j <= l_second; j++ )
+        {
+            final char l_char = p_second.charAt( j - 1 );
+            final int l_lower = l_band == Integer.MAX_VALUE ? 1 : Math.max( 1, j - l_band );
+            final int l_upper = l_band == Integer.MAX_VALUE ? l_first : (int) Math.min( l_first, (long) j + l_band );
+
+            l_newcost[l_lower - 1] = l_lower == 1 ? j * m_insert : EXCEEDED;
+            double l_minimum = l_newcost[l_lower - 1];
+
+            for ( int i = l_lower; i <= l_upper; i++ )
+            {
+                l_newcost[i] = Math.min(
+                    Math.min(
+                        l_cost[i - 1] + ( p_first.charAt( i - 1 ) == l_char ? 0 : m_replace ),
+                        l_newcost[i - 1] + m_delete
+                    ),
+                    l_cost[i] + m_insert
+                );
+                l_minimum = Math.min( l_minimum, l_newcost[i] );
+            }
+
+            if ( l_upper < l_first )
+                l_newcost[l_upper + 1] = EXCEEDED;
+
+            if ( l_minimum > m_maximum )
+                return EXCEEDED;
+
+            final double[] l_swap = l_cost;
+            l_cost = l_newcost;
+            l_newcost = l_swap;
+        }
+
+        return l_cost[l_first] > m_maximum ? EXCEEDED : l_cost[l_first];
+    }
+
+    /**
+     * returns a reusable row of the current thread
+     *
+     * @param p_index row index
+     * @param p_length string length
+     * @return row with at least length + 2 cells
+     */
+    @Nonnull
+    private double[] row( final int p_index, final int p_length )
+    {
+        final double[][] l_buffer = BUFFER.get();
+        if ( l_buffer[p_index].length < p_length + 2 )
+            l_buffer[p_index] = new double[Math.max( p_length + 2, 2 * l_buffer[p_index].length )];
+
+        return l_buffer[p_index];
+    }
+
+}
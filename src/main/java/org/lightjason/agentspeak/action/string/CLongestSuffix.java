@@ -0,0 +1,90 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to get the longest matching suffix.
+ * The action checks the string, that is the first argument,
+ * with all other arguments and returns the longest argument,
+ * which is a suffix of the string, or an empty string, the
+ * arguments are stored within a cached suffix trie
+ *
+ * {@code R = .string/longestsuffix("archive.tar.gz", ".gz", ".tar.gz", ".zip");}
+ */
+public final class CLongestSuffix extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6028144317920675413L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CLongestSuffix.class, "string" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final CPrefixTrie l_trie = CPrefixTrie.suffix(
+            CCommon.flatten( p_argument ).skip( 1 ).map( CArgument::string ).collect( Collectors.toList() )
+        );
+        final int l_index = l_trie.longest( CArgument.string( p_argument.get( 0 ) ) );
+
+        p_return.add( CRawTerm.of( l_index < 0 ? "" : l_trie.get( l_index ) ) );
+        return Stream.empty();
+    }
+
+}
@@ -26,7 +26,6 @@ package org.lightjason.agentspeak.action.string;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -34,6 +33,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Stream;
 
 
@@ -75,11 +75,14 @@ public final class CLower extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<String>raw )
-               .map( String::toLowerCase )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final Locale l_locale = Locale.getDefault();
+
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).map( CArgument::string ),
+            i -> CInternPool.apply( CTransform.lower( i, l_locale ) ),
+            p_return
+        );
 
         return Stream.empty();
     }
@@ -27,7 +27,6 @@ import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -45,9 +44,11 @@ import java.util.stream.Stream;
  * string, if the first argument matches a compression algorithm ( BZIP |
  * GZIP | DEFLATE | PACK200 | XZ ), it will be used for defining the compression,
  * the next string argument will be the input string and the distances will be
- * calculated between the second and all other arguments
+ * calculated between the second and all other arguments, if the first argument
+ * is a dictionary, the strings are compressed with the primed raw deflate
  *
  * {@code [A|B] = .string/ncd( "BZIP|GZIP|DEFLATE|DEFLATE64|PACK200", "foo bar", "test foo", "bar foo" );}
+ * {@code [A|B] = .string/ncd( Dictionary, "foo bar", "test foo", "bar foo" );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Normalized_compression_distance"></a>
  */
@@ -82,8 +83,29 @@ public final class CNCD extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final List<String> l_arguments = CCommon.flatten( p_argument )
-                                                .map( ITerm::<String>raw )
+        final List<ITerm> l_terms = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        // dictionary compression
+        if ( !l_terms.isEmpty() && CCommon.isssignableto( l_terms.get( 0 ), CNCDDictionary.class ) )
+        {
+            if ( l_terms.size() < 3 )
+                throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongargumentnumber", 2 ) );
+
+            final CNCDDictionary l_dictionary = l_terms.get( 0 ).raw();
+            final String l_reference = CArgument.string( l_terms.get( 1 ) );
+            p_return.addAll(
+                CParallel.map(
+                    p_parallel,
+                    l_terms.subList( 2, l_terms.size() ).stream().map( CArgument::string ).collect( Collectors.toList() ),
+                    i -> l_dictionary.distance( l_reference, i )
+                )
+            );
+
+            return Stream.empty();
+        }
+
+        final List<String> l_arguments = l_terms.stream()
+                                                .map( CArgument::string )
                                                 .collect( Collectors.toList() );
 
         // get arguments
@@ -106,13 +128,15 @@ public final class CNCD extends IBaseAction
             throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongargumentnumber", 2 ) );
 
 
-        // calculate distance
-        l_arguments.stream()
-                   .skip( l_skip + 1 )
-                   .mapToDouble( i -> CCommon.ncd( l_compression, l_arguments.get( l_skip ), i ) )
-                   .boxed()
-                   .map( CRawTerm::of )
-                   .forEach( p_return::add );
+        // calculate distance, reference will be compressed once
+        final CNCDEngine l_engine = new CNCDEngine( l_compression, l_arguments.get( l_skip ) );
+        p_return.addAll(
+            CParallel.map(
+                p_parallel,
+                l_arguments.subList( l_skip + 1, l_arguments.size() ),
+                l_engine::distance
+            )
+        );
 
         return Stream.empty();
     }
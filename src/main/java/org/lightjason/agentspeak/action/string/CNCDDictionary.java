@@ -0,0 +1,229 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+
+
+/**
+ * normalized-compression-distance with a preset deflate dictionary.
+ * Short strings compress badly, because the compressor knows nothing
+ * about the data and the header dominates the size, so the raw deflate
+ * stream without header is primed with a dictionary of a sample corpus,
+ * the most frequent samples are placed at the end of the dictionary,
+ * because deflate encodes near references cheaper, deflaters are reset
+ * and reused from a pool instead of allocating native memory for each call
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Normalized_compression_distance"></a>
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc1951"></a>
+ */
+public final class CNCDDictionary
+{
+    /**
+     * maximum dictionary size, which is the deflate window size
+     */
+    public static final int MAXIMUMSIZE = 32768;
+    /**
+     * default number of cached sizes
+     */
+    public static final int DEFAULTCAPACITY = 4096;
+    /**
+     * maximum number of pooled deflaters
+     */
+    private static final int POOLSIZE = 2 * Runtime.getRuntime().availableProcessors();
+    /**
+     * output buffer of each thread
+     */
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial( () -> new byte[4096] );
+    /**
+     * dictionary bytes
+     */
+    private final byte[] m_dictionary;
+    /**
+     * pooled deflaters
+     */
+    private final Queue<Deflater> m_pool = new ConcurrentLinkedQueue<>();
+    /**
+     * number of pooled deflaters
+     */
+    private final AtomicInteger m_poolsize = new AtomicInteger();
+    /**
+     * compressed sizes
+     */
+    private final CCache<String, Double> m_sizes = new CCache<>( DEFAULTCAPACITY );
+
+    /**
+     * ctor
+     *
+     * @param p_dictionary dictionary bytes, only the last bytes within the window are used
+     */
+    public CNCDDictionary( @Nonnull final byte[] p_dictionary )
+    {
+        m_dictionary = p_dictionary.length > MAXIMUMSIZE
+                       ? Arrays.copyOfRange( p_dictionary, p_dictionary.length - MAXIMUMSIZE, p_dictionary.length )
+                       : p_dictionary.clone();
+    }
+
+    /**
+     * trains a dictionary from a sample corpus,
+     * distinct samples are ordered by their frequency,
+     * so the most frequent ones are nearest to the data
+     *
+     * @param p_corpus sample strings
+     * @return dictionary
+     */
+    @Nonnull
+    public static CNCDDictionary of( @Nonnull final Collection<String> p_corpus )
+    {
+        final Map<String, Long> l_frequency = p_corpus.stream()
+                                                      .filter( i -> !i.isEmpty() )
+                                                      .collect( Collectors.groupingBy( Function.identity(), Collectors.counting() ) );
+
+        final ByteArrayOutputStream l_dictionary = new ByteArrayOutputStream();
+        l_frequency.entrySet()
+                   .stream()
+                   .sorted( Map.Entry.<String, Long>comparingByValue().thenComparing( Map.Entry.comparingByKey( Comparator.reverseOrder() ) ) )
+                   .map( i -> i.getKey().getBytes( StandardCharsets.UTF_8 ) )
+                   .forEach( l_dictionary::writeBytes );
+
+        return new CNCDDictionary( l_dictionary.toByteArray() );
+    }
+
+    /**
+     * returns the dictionary size
+     *
+     * @return number of dictionary bytes
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_dictionary.length;
+    }
+
+    /**
+     * calculates the distance between two strings
+     *
+     * @param p_first first string
+     * @param p_second second string
+     * @return normalized-compression-distance
+     */
+    public double distance( @Nonnull final String p_first, @Nonnull final String p_second )
+    {
+        if ( p_first.equals( p_second ) )
+            return 0;
+
+        final double l_first = this.compressedsize( p_first );
+        final double l_second = this.compressedsize( p_second );
+        return ( this.compress( ( p_first + p_second ).getBytes( StandardCharsets.UTF_8 ) ) - Math.min( l_first, l_second ) )
+               / Math.max( l_first, l_second );
+    }
+
+    /**
+     * returns the compressed size of a string
+     *
+     * @param p_input input string
+     * @return number of compressed bytes
+     */
+    public double compressedsize( @Nonnull final String p_input )
+    {
+        return m_sizes.get( p_input, i -> this.compress( i.getBytes( StandardCharsets.UTF_8 ) ) );
+    }
+
+    /**
+     * compresses the input with a pooled deflater
+     *
+     * @param p_input input bytes
+     * @return number of compressed bytes
+     */
+    private double compress( @Nonnull final byte[] p_input )
+    {
+        final Deflater l_deflater = this.acquire();
+        final byte[] l_buffer = BUFFER.get();
+
+        try
+        {
+            if ( m_dictionary.length > 0 )
+                l_deflater.setDictionary( m_dictionary );
+
+            l_deflater.setInput( p_input );
+            l_deflater.finish();
+            while ( !l_deflater.finished() )
+                l_deflater.deflate( l_buffer );
+
+            return l_deflater.getBytesWritten();
+        }
+        finally
+        {
+            this.release( l_deflater );
+        }
+    }
+
+    /**
+     * returns a deflater of the pool or creates a new one
+     *
+     * @return deflater
+     */
+    @Nonnull
+    private Deflater acquire()
+    {
+        final Deflater l_deflater = m_pool.poll();
+        if ( l_deflater == null )
+            return new Deflater( Deflater.BEST_COMPRESSION, true );
+
+        m_poolsize.decrementAndGet();
+        return l_deflater;
+    }
+
+    /**
+     * resets a deflater and adds it to the pool,
+     * if the pool is full the deflater is closed
+     *
+     * @param p_deflater deflater
+     */
+    private void release( @Nonnull final Deflater p_deflater )
+    {
+        p_deflater.reset();
+        if ( m_poolsize.incrementAndGet() > POOLSIZE )
+        {
+            m_poolsize.decrementAndGet();
+            p_deflater.end();
+            return;
+        }
+
+        m_pool.offer( p_deflater );
+    }
+
+}
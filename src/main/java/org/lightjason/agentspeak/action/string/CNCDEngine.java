@@ -0,0 +1,194 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.language.CCommon;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+
+/**
+ * batch calculation of the normalized-compression-distance.
+ * The engine compresses the reference string once and calculates
+ * the distance to any number of candidates, the compressed sizes of
+ * candidates are cached, so the result is equal to CCommon.ncd
+ * with less compression calls
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Normalized_compression_distance"></a>
+ */
+public final class CNCDEngine
+{
+    /**
+     * default number of cached sizes for each compression
+     */
+    public static final int DEFAULTCAPACITY = 16384;
+    /**
+     * compressed sizes for each compression
+     */
+    private static final Map<CCommon.ECompression, CCache<String, Double>> SIZES = new EnumMap<>( CCommon.ECompression.class );
+    /**
+     * compression
+     */
+    private final CCommon.ECompression m_compression;
+    /**
+     * reference string
+     */
+    private final String m_reference;
+    /**
+     * reference bytes
+     */
+    private final byte[] m_referencebytes;
+    /**
+     * compressed size of the reference
+     */
+    private final double m_referencesize;
+
+    static
+    {
+        for ( final CCommon.ECompression l_compression : CCommon.ECompression.values() )
+            SIZES.put( l_compression, new CCache<>( DEFAULTCAPACITY ) );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_compression compression
+     * @param p_reference reference string
+     */
+    public CNCDEngine( @Nonnull final CCommon.ECompression p_compression, @Nonnull final String p_reference )
+    {
+        m_compression = p_compression;
+        m_reference = p_reference;
+        m_referencebytes = p_reference.getBytes( StandardCharsets.UTF_8 );
+        m_referencesize = size( p_compression, p_reference );
+    }
+
+    /**
+     * calculates the distance between reference and candidate
+     *
+     * @param p_candidate candidate string
+     * @return normalized-compression-distance
+     */
+    public double distance( @Nonnull final String p_candidate )
+    {
+        if ( m_reference.equals( p_candidate ) )
+            return 0;
+
+        final double l_candidate = size( m_compression, p_candidate );
+        return ( compress( m_compression, this.concat( p_candidate ) ) - Math.min( m_referencesize, l_candidate ) )
+               / Math.max( m_referencesize, l_candidate );
+    }
+
+    /**
+     * returns the compressed size of a string
+     *
+     * @param p_compression compression
+     * @param p_input input string
+     * @return number of compressed bytes
+     */
+    public static double size( @Nonnull final CCommon.ECompression p_compression, @Nonnull final String p_input )
+    {
+        return SIZES.get( p_compression ).get( p_input, i -> compress( p_compression, i.getBytes( StandardCharsets.UTF_8 ) ) );
+    }
+
+    /**
+     * returns the capacity
+     *
+     * @return maximum number of cached sizes for each compression
+     */
+    @Nonnegative
+    public static int capacity()
+    {
+        return SIZES.get( CCommon.ECompression.BZIP ).capacity();
+    }
+
+    /**
+     * sets the capacity
+     *
+     * @param p_capacity maximum number of cached sizes for each compression
+     */
+    public static void capacity( @Nonnegative final int p_capacity )
+    {
+        SIZES.values().forEach( i -> i.capacity( p_capacity ) );
+    }
+
+    /**
+     * clears the cached sizes
+     */
+    public static void clear()
+    {
+        SIZES.values().forEach( CCache::clear );
+    }
+
+    /**
+     * creates the bytes of the concatenation of reference and candidate
+     *
+     * @param p_candidate candidate
+     * @return utf-8 bytes
+     */
+    @Nonnull
+    private byte[] concat( @Nonnull final String p_candidate )
+    {
+        // a surrogate pair across the border must be encoded together
+        if ( !m_reference.isEmpty() && Character.isHighSurrogate( m_reference.charAt( m_reference.length() - 1 ) ) )
+            return ( m_reference + p_candidate ).getBytes( StandardCharsets.UTF_8 );
+
+        final byte[] l_candidate = p_candidate.getBytes( StandardCharsets.UTF_8 );
+        final byte[] l_bytes = new byte[m_referencebytes.length + l_candidate.length];
+        System.arraycopy( m_referencebytes, 0, l_bytes, 0, m_referencebytes.length );
+        System.arraycopy( l_candidate, 0, l_bytes, m_referencebytes.length, l_candidate.length );
+        return l_bytes;
+    }
+
+    /**
+     * compress the input and counts the bytes
+     *
+     * @param p_compression compression
+     * @param p_input input bytes
+     * @return number of compressed bytes
+     */
+    private static double compress( @Nonnull final CCommon.ECompression p_compression, @Nonnull final byte[] p_input )
+    {
+        final DataOutputStream l_counting = new DataOutputStream( OutputStream.nullOutputStream() );
+
+        try ( OutputStream l_compressor = p_compression.get( l_counting ) )
+        {
+            l_compressor.write( p_input );
+        }
+        catch ( final IOException l_exception )
+        {
+            return 0;
+        }
+
+        return l_counting.size();
+    }
+
+}
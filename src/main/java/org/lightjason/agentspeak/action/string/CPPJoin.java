@@ -0,0 +1,241 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * jaccard similarity join with prefix filtering.
+ * The tokens of all sets are ordered by their frequency, so rare
+ * tokens come first, the prefixes of the right sets are indexed and
+ * each left set probes the index with its prefix, candidates are
+ * pruned by their size and the positional bound of the overlap, so
+ * only the remaining pairs are verified with the exact similarity
+ *
+ * @see <a href="https://doi.org/10.1145/1367497.1367516"></a>
+ */
+public final class CPPJoin
+{
+    /**
+     * tolerance of the threshold calculations
+     */
+    private static final double EPSILON = 1e-9;
+    /**
+     * similarity threshold
+     */
+    private final double m_threshold;
+    /**
+     * token sets of the left side
+     */
+    private final List<long[]> m_left;
+    /**
+     * token sets of the right side
+     */
+    private final List<long[]> m_right;
+    /**
+     * ranks of the left side
+     */
+    private final int[][] m_leftranks;
+    /**
+     * ranks of the right side
+     */
+    private final int[][] m_rightranks;
+    /**
+     * index of the right prefixes, each entry contains pairs of set index and token position
+     */
+    private final Map<Integer, int[]> m_index;
+    /**
+     * indices of the empty right sets
+     */
+    private final int[] m_empty;
+
+    /**
+     * ctor
+     *
+     * @param p_threshold similarity threshold within (0, 1]
+     * @param p_left sorted distinct token hashes of the left side
+     * @param p_right sorted distinct token hashes of the right side
+     */
+    public CPPJoin( final double p_threshold, @Nonnull final List<long[]> p_left, @Nonnull final List<long[]> p_right )
+    {
+        if ( p_threshold <= 0 || p_threshold > 1 )
+            throw new IllegalArgumentException( "threshold must be within (0, 1]" );
+
+        m_threshold = p_threshold;
+        m_left = p_left;
+        m_right = p_right;
+
+        // global order by token frequency, ties are ordered by the hash
+        final Map<Long, Integer> l_frequency = new HashMap<>();
+        Stream.concat( p_left.stream(), p_right.stream() )
+              .flatMapToLong( Arrays::stream )
+              .forEach( i -> l_frequency.merge( i, 1, Integer::sum ) );
+
+        final long[] l_order = l_frequency.entrySet()
+                                          .stream()
+                                          .sorted( Map.Entry.<Long, Integer>comparingByValue().thenComparing( Map.Entry.comparingByKey() ) )
+                                          .mapToLong( Map.Entry::getKey )
+                                          .toArray();
+
+        final Map<Long, Integer> l_rank = new HashMap<>( l_order.length * 2 );
+        for ( int i = 0; i < l_order.length; i++ )
+            l_rank.put( l_order[i], i );
+
+        m_leftranks = p_left.stream().map( i -> ranks( i, l_rank ) ).toArray( int[][]::new );
+        m_rightranks = p_right.stream().map( i -> ranks( i, l_rank ) ).toArray( int[][]::new );
+
+        // prefix index of the right side
+        final Map<Integer, List<Integer>> l_index = new HashMap<>();
+        for ( int i = 0; i < m_rightranks.length; i++ )
+            for ( int j = 0; j < this.prefix( m_rightranks[i].length ); j++ )
+            {
+                final List<Integer> l_entry = l_index.computeIfAbsent( m_rightranks[i][j], k -> new ArrayList<>() );
+                l_entry.add( i );
+                l_entry.add( j );
+            }
+
+        m_index = l_index.entrySet()
+                         .stream()
+                         .collect( Collectors.toMap( Map.Entry::getKey, i -> i.getValue().stream().mapToInt( Integer::intValue ).toArray() ) );
+
+        m_empty = IntStream.range( 0, m_rightranks.length ).filter( i -> m_rightranks[i].length == 0 ).toArray();
+    }
+
+    /**
+     * returns the threshold
+     *
+     * @return similarity threshold
+     */
+    public double threshold()
+    {
+        return m_threshold;
+    }
+
+    /**
+     * returns the pairs of a left set
+     *
+     * @param p_left left set index
+     * @return list of pairs with right set index and similarity
+     */
+    @Nonnull
+    public List<Map.Entry<Integer, Double>> join( @Nonnegative final int p_left )
+    {
+        return this.join( p_left, 0 );
+    }
+
+    /**
+     * returns the pairs of a left set with a right set
+     * index greater or equal than a minimum, so a self-join
+     * returns each pair only once with a minimum of the
+     * left index plus one
+     *
+     * @param p_left left set index
+     * @param p_minimum minimal right set index
+     * @return list of pairs with right set index and similarity
+     */
+    @Nonnull
+    public List<Map.Entry<Integer, Double>> join( @Nonnegative final int p_left, @Nonnegative final int p_minimum )
+    {
+        final int[] l_ranks = m_leftranks[p_left];
+
+        // empty sets are only equal to empty sets
+        if ( l_ranks.length == 0 )
+            return Arrays.stream( m_empty ).filter( i -> i >= p_minimum ).mapToObj( i -> new AbstractMap.SimpleImmutableEntry<>( i, 1.0 ) ).collect( Collectors.toList() );
+
+        final double l_minimum = m_threshold * l_ranks.length - EPSILON;
+        final double l_maximum = l_ranks.length / m_threshold + EPSILON;
+
+        // overlap of the candidates, negative values are pruned candidates
+        final Map<Integer, Integer> l_overlap = new HashMap<>();
+        for ( int i = 0; i < this.prefix( l_ranks.length ); i++ )
+        {
+            final int[] l_entry = m_index.get( l_ranks[i] );
+            if ( l_entry == null )
+                continue;
+
+            for ( int j = 0; j < l_entry.length; j += 2 )
+            {
+                final int l_candidate = l_entry[j];
+                if ( l_candidate < p_minimum )
+                    continue;
+
+                final int l_size = m_rightranks[l_candidate].length;
+                if ( l_size < l_minimum || l_size > l_maximum )
+                    continue;
+
+                final int l_current = l_overlap.getOrDefault( l_candidate, 0 );
+                if ( l_current < 0 )
+                    continue;
+
+                final int l_required = (int) Math.ceil( m_threshold / ( 1 + m_threshold ) * ( l_ranks.length + l_size ) - EPSILON );
+                final int l_bound = 1 + Math.min( l_ranks.length - i - 1, l_size - l_entry[j + 1] - 1 );
+                l_overlap.put( l_candidate, l_current + l_bound >= l_required ? l_current + 1 : -1 );
+            }
+        }
+
+        return l_overlap.entrySet()
+                        .stream()
+                        .filter( i -> i.getValue() > 0 )
+                        .map( Map.Entry::getKey )
+                        .sorted()
+                        .map( i -> new AbstractMap.SimpleImmutableEntry<>( i, CShingle.jaccard( m_left.get( p_left ), m_right.get( i ) ) ) )
+                        .filter( i -> i.getValue() >= m_threshold )
+                        .collect( Collectors.toList() );
+    }
+
+    /**
+     * returns the prefix length of a set
+     *
+     * @param p_size set size
+     * @return number of tokens which must be checked
+     */
+    private int prefix( @Nonnegative final int p_size )
+    {
+        return p_size == 0 ? 0 : p_size - (int) Math.ceil( m_threshold * p_size - EPSILON ) + 1;
+    }
+
+    /**
+     * maps a token set to sorted ranks
+     *
+     * @param p_set token hashes
+     * @param p_rank rank of each token
+     * @return sorted ranks
+     */
+    @Nonnull
+    private static int[] ranks( @Nonnull final long[] p_set, @Nonnull final Map<Long, Integer> p_rank )
+    {
+        return Arrays.stream( p_set ).mapToInt( p_rank::get ).sorted().toArray();
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * order-preserving parallel execution of the string actions.
+ * If an action is called with the parallel flag and the number of
+ * elements reaches the threshold, the elements are mapped within
+ * the fork-join pool, otherwise the mapping runs sequential, in both
+ * cases the results are added in input order to the return list
+ */
+public final class CParallel
+{
+    /**
+     * default number of elements for parallel execution
+     */
+    public static final int DEFAULTTHRESHOLD = 512;
+    /**
+     * minimal number of elements for parallel execution
+     */
+    private static final AtomicInteger THRESHOLD = new AtomicInteger( DEFAULTTHRESHOLD );
+    /**
+     * fork-join pool
+     */
+    private static final AtomicReference<ForkJoinPool> POOL = new AtomicReference<>( ForkJoinPool.commonPool() );
+
+    /**
+     * ctor
+     */
+    private CParallel()
+    {
+    }
+
+    /**
+     * returns the threshold
+     *
+     * @return minimal number of elements for parallel execution
+     */
+    @Nonnegative
+    public static int threshold()
+    {
+        return THRESHOLD.get();
+    }
+
+    /**
+     * sets the threshold
+     *
+     * @param p_threshold minimal number of elements for parallel execution
+     */
+    public static void threshold( @Nonnegative final int p_threshold )
+    {
+        if ( p_threshold < 1 )
+            throw new IllegalArgumentException( "threshold must be greater than zero" );
+
+        THRESHOLD.set( p_threshold );
+    }
+
+    /**
+     * returns the fork-join pool
+     *
+     * @return pool
+     */
+    @Nonnull
+    public static ForkJoinPool pool()
+    {
+        return POOL.get();
+    }
+
+    /**
+     * sets the fork-join pool
+     *
+     * @param p_pool pool
+     */
+    public static void pool( @Nonnull final ForkJoinPool p_pool )
+    {
+        POOL.set( p_pool );
+    }
+
+    /**
+     * maps each element and adds the results as raw terms
+     *
+     * @param p_parallel parallel execution flag
+     * @param p_input input elements
+     * @param p_function mapping function
+     * @param p_return return list
+     * @tparam T input type
+     */
+    public static <T> void apply( final boolean p_parallel, @Nonnull final Stream<T> p_input,
+                                  @Nonnull final Function<T, ?> p_function, @Nonnull final List<ITerm> p_return )
+    {
+        if ( !p_parallel )
+        {
+            p_input.map( p_function ).<ITerm>map( CRawTerm::of ).forEach( p_return::add );
+            return;
+        }
+
+        p_return.addAll( map( true, p_input.collect( Collectors.toList() ), p_function ) );
+    }
+
+    /**
+     * maps each element of a list to a raw term
+     *
+     * @param p_parallel parallel execution flag
+     * @param p_input input elements
+     * @param p_function mapping function
+     * @return list of raw terms in input order
+     * @tparam T input type
+     */
+    @Nonnull
+    public static <T> List<ITerm> map( final boolean p_parallel, @Nonnull final List<T> p_input, @Nonnull final Function<T, ?> p_function )
+    {
+        return values( p_parallel, p_input, i -> CRawTerm.of( p_function.apply( i ) ) );
+    }
+
+    /**
+     * maps each element of a list
+     *
+     * @param p_parallel parallel execution flag
+     * @param p_input input elements
+     * @param p_function mapping function
+     * @return list of mapped values in input order
+     * @tparam T input type
+     * @tparam R result type
+     */
+    @Nonnull
+    public static <T, R> List<R> values( final boolean p_parallel, @Nonnull final List<T> p_input, @Nonnull final Function<T, R> p_function )
+    {
+        if ( !p_parallel || p_input.size() < THRESHOLD.get() )
+            return p_input.stream().map( p_function ).collect( Collectors.toList() );
+
+        return POOL.get().submit( () -> p_input.parallelStream().map( p_function ).collect( Collectors.toList() ) ).join();
+    }
+
+    /**
+     * runs a consumer for each index of a range, the
+     * indices are processed in arbitrary order
+     *
+     * @param p_parallel parallel execution flag
+     * @param p_count number of indices
+     * @param p_elements number of elements which are processed by all indices
+     * @param p_consumer index consumer
+     */
+    public static void range( final boolean p_parallel, @Nonnegative final int p_count, @Nonnegative final long p_elements,
+                              @Nonnull final IntConsumer p_consumer )
+    {
+        if ( !p_parallel || p_count < 2 || p_elements < THRESHOLD.get() )
+        {
+            IntStream.range( 0, p_count ).forEach( p_consumer );
+            return;
+        }
+
+        POOL.get().submit( () -> IntStream.range( 0, p_count ).parallel().forEach( p_consumer ) ).join();
+    }
+
+}
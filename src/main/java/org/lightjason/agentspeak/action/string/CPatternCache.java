@@ -0,0 +1,195 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+
+/**
+ * bounded cache of compiled regular expressions.
+ * The cache stores compiled patterns by their expression,
+ * if the capacity is reached the oldest patterns will
+ * be removed first
+ */
+public final class CPatternCache
+{
+    /**
+     * default capacity
+     */
+    public static final int DEFAULTCAPACITY = 256;
+    /**
+     * regular expression metacharacters
+     */
+    private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+    /**
+     * replacement metacharacters
+     */
+    private static final String REPLACEMETACHARACTERS = "\\$";
+    /**
+     * compiled patterns
+     */
+    private static final CCache<String, Pattern> PATTERNS = new CCache<>( DEFAULTCAPACITY );
+
+    /**
+     * ctor
+     */
+    private CPatternCache()
+    {
+    }
+
+    /**
+     * returns a compiled pattern
+     *
+     * @param p_expression regular expression
+     * @return pattern
+     */
+    @Nonnull
+    public static Pattern pattern( @Nonnull final String p_expression )
+    {
+        return PATTERNS.get( p_expression, Pattern::compile );
+    }
+
+    /**
+     * returns a pattern of a handle
+     *
+     * @param p_handle compiled pattern or regular expression
+     * @return pattern
+     */
+    @Nonnull
+    public static Pattern handle( @Nonnull final Object p_handle )
+    {
+        return p_handle instanceof Pattern ? (Pattern) p_handle : pattern( p_handle.toString() );
+    }
+
+    /**
+     * creates a replace-all function, if search and replacement
+     * are literals the function does not use a regular expression
+     *
+     * @param p_search regular expression
+     * @param p_replace replacement
+     * @return function with the same result as String::replaceAll
+     */
+    @Nonnull
+    public static UnaryOperator<String> replacer( @Nonnull final String p_search, @Nonnull final String p_replace )
+    {
+        if ( literal( p_search, METACHARACTERS ) && literal( p_replace, REPLACEMETACHARACTERS ) )
+            return i -> i.replace( p_search, p_replace );
+
+        final Pattern l_pattern = pattern( p_search );
+        return i -> l_pattern.matcher( i ).replaceAll( p_replace );
+    }
+
+    /**
+     * checks if a string is a literal expression
+     *
+     * @param p_expression regular expression
+     * @return literal flag
+     */
+    public static boolean literal( @Nonnull final String p_expression )
+    {
+        return literal( p_expression, METACHARACTERS );
+    }
+
+    /**
+     * returns the number of cache hits
+     *
+     * @return hits
+     */
+    @Nonnegative
+    public static long hits()
+    {
+        return PATTERNS.hits();
+    }
+
+    /**
+     * returns the number of cache misses
+     *
+     * @return misses
+     */
+    @Nonnegative
+    public static long misses()
+    {
+        return PATTERNS.misses();
+    }
+
+    /**
+     * returns the number of cached patterns
+     *
+     * @return size
+     */
+    @Nonnegative
+    public static int size()
+    {
+        return PATTERNS.size();
+    }
+
+    /**
+     * returns the capacity
+     *
+     * @return maximum number of cached patterns
+     */
+    @Nonnegative
+    public static int capacity()
+    {
+        return PATTERNS.capacity();
+    }
+
+    /**
+     * sets the capacity
+     *
+     * @param p_capacity maximum number of cached patterns
+     */
+    public static void capacity( @Nonnegative final int p_capacity )
+    {
+        PATTERNS.capacity( p_capacity );
+    }
+
+    /**
+     * clears the cache and the counters
+     */
+    public static void clear()
+    {
+        PATTERNS.clear();
+    }
+
+    /**
+     * checks a string for metacharacters
+     *
+     * @param p_value string
+     * @param p_metacharacters metacharacters
+     * @return true if no metacharacter exists
+     */
+    private static boolean literal( @Nonnull final String p_value, @Nonnull final String p_metacharacters )
+    {
+        for ( int i = 0; i < p_value.length(); i++ )
+            if ( p_metacharacters.indexOf( p_value.charAt( i ) ) > -1 )
+                return false;
+
+        return true;
+    }
+
+}
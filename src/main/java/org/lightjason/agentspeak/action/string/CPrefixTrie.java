@@ -0,0 +1,197 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * trie of prefixes or suffixes.
+ * The trie is build once for a list of prefixes and checks
+ * a string in time of the string length, on the reversed trie
+ * the string is read from the end, so the trie checks suffixes,
+ * tries are cached by the prefix list
+ */
+public final class CPrefixTrie
+{
+    /**
+     * default number of cached tries for each direction
+     */
+    public static final int DEFAULTCAPACITY = 64;
+    /**
+     * minimal number of prefixes, for which the actions use a trie
+     */
+    public static final int MINIMALSIZE = 16;
+    /**
+     * cached prefix tries
+     */
+    private static final CCache<List<String>, CPrefixTrie> PREFIXES = new CCache<>( DEFAULTCAPACITY );
+    /**
+     * cached suffix tries
+     */
+    private static final CCache<List<String>, CPrefixTrie> SUFFIXES = new CCache<>( DEFAULTCAPACITY );
+    /**
+     * prefixes
+     */
+    private final List<String> m_prefixes;
+    /**
+     * reversed flag
+     */
+    private final boolean m_reversed;
+    /**
+     * frozen trie
+     */
+    private final CTrie m_trie;
+
+    /**
+     * ctor
+     *
+     * @param p_prefixes prefixes
+     * @param p_reversed suffix trie
+     */
+    private CPrefixTrie( @Nonnull final List<String> p_prefixes, final boolean p_reversed )
+    {
+        m_prefixes = p_prefixes;
+        m_reversed = p_reversed;
+        m_trie = new CTrie( p_prefixes, p_reversed );
+    }
+
+    /**
+     * returns the cached prefix trie
+     *
+     * @param p_prefixes prefixes
+     * @return trie
+     */
+    @Nonnull
+    public static CPrefixTrie prefix( @Nonnull final List<String> p_prefixes )
+    {
+        return PREFIXES.get( Collections.unmodifiableList( new ArrayList<>( p_prefixes ) ), i -> new CPrefixTrie( i, false ) );
+    }
+
+    /**
+     * returns the cached suffix trie
+     *
+     * @param p_suffixes suffixes
+     * @return trie
+     */
+    @Nonnull
+    public static CPrefixTrie suffix( @Nonnull final List<String> p_suffixes )
+    {
+        return SUFFIXES.get( Collections.unmodifiableList( new ArrayList<>( p_suffixes ) ), i -> new CPrefixTrie( i, true ) );
+    }
+
+    /**
+     * clears the cached tries
+     */
+    public static void clear()
+    {
+        PREFIXES.clear();
+        SUFFIXES.clear();
+    }
+
+    /**
+     * checks which prefixes match the string
+     *
+     * @param p_string string
+     * @return match flag for each prefix
+     */
+    @Nonnull
+    public boolean[] matches( @Nonnull final String p_string )
+    {
+        final boolean[] l_result = new boolean[m_prefixes.size()];
+
+        int l_node = 0;
+        for ( int i = 0; l_node > -1; i++ )
+        {
+            for ( final int l_prefix : m_trie.output( l_node ) )
+                l_result[l_prefix] = true;
+
+            l_node = i < p_string.length() ? m_trie.step( l_node, this.character( p_string, i ) ) : -1;
+        }
+
+        return l_result;
+    }
+
+    /**
+     * returns the longest matching prefix
+     *
+     * @param p_string string
+     * @return index of the first longest matching prefix or -1
+     */
+    public int longest( @Nonnull final String p_string )
+    {
+        int l_longest = -1;
+
+        int l_node = 0;
+        for ( int i = 0; l_node > -1; i++ )
+        {
+            if ( m_trie.output( l_node ).length > 0 )
+                l_longest = m_trie.output( l_node )[0];
+
+            l_node = i < p_string.length() ? m_trie.step( l_node, this.character( p_string, i ) ) : -1;
+        }
+
+        return l_longest;
+    }
+
+    /**
+     * returns a prefix
+     *
+     * @param p_index index
+     * @return prefix
+     */
+    @Nonnull
+    public String get( @Nonnegative final int p_index )
+    {
+        return m_prefixes.get( p_index );
+    }
+
+    /**
+     * number of prefixes
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_prefixes.size();
+    }
+
+    /**
+     * returns the character in read direction
+     *
+     * @param p_string string
+     * @param p_index read index
+     * @return character
+     */
+    private char character( @Nonnull final String p_string, final int p_index )
+    {
+        return p_string.charAt( m_reversed ? p_string.length() - 1 - p_index : p_index );
+    }
+
+}
@@ -23,12 +23,10 @@
 
 package org.lightjason.agentspeak.action.string;
 
-import org.apache.commons.text.CharacterPredicate;
-import org.apache.commons.text.RandomStringGenerator;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -42,7 +40,8 @@ import java.util.stream.Stream;
 /**
  * action to create random strings, with a definied length.
  * The first argument are the characters, that will be used to create the string,
- * all other arguments are numbers to present the length of the returning string
+ * all other arguments are numbers to present the length of the returning string,
+ * the generator of the characters is cached
  *
  * {@code [A|B|C] = .string/random( "abdefgXYZUI", 5, 3, 6 );}
  */
@@ -77,13 +76,16 @@ public final class CRandom extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final CharacterPredicate l_characters = p_char -> p_argument.get( 0 ).<String>raw().contains( new String( Character.toChars( p_char ) ) );
+        final CRandomGenerator l_generator = CRandomGenerator.of( p_argument.get( 0 ).raw() );
+        if ( l_generator.size() == 0 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "emptyalphabet" ) );
 
-        CCommon.flatten( p_argument )
-               .skip( 1 )
-               .map( i -> new RandomStringGenerator.Builder().filteredBy( l_characters ).build().generate( i.<Number>raw().intValue() ) )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).skip( 1 ).map( ITerm::<Number>raw ),
+            i -> l_generator.generate( i.intValue() ),
+            p_return
+        );
 
         return Stream.empty();
     }
@@ -0,0 +1,104 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to create a list of random strings.
+ * The first argument are the characters, the second argument
+ * the number of strings and the third argument the length of each
+ * string, the optional fourth argument is a seed, with a seed
+ * the strings are created sequential, so the list is reproducible
+ *
+ * {@code L = .string/randombulk( "abcdef0123456789", 1000, 16 );}
+ * {@code L = .string/randombulk( "abcdef0123456789", 1000, 16, 42 );}
+ */
+public final class CRandomBulk extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4216930571349208375L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CRandomBulk.class, "string" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 3;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final CRandomGenerator l_generator = CRandomGenerator.of( l_arguments.get( 0 ).raw() );
+        if ( l_generator.size() == 0 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "emptyalphabet" ) );
+
+        final int l_number = l_arguments.get( 1 ).<Number>raw().intValue();
+        final int l_length = l_arguments.get( 2 ).<Number>raw().intValue();
+
+        if ( l_arguments.size() > 3 )
+        {
+            final Random l_random = new Random( l_arguments.get( 3 ).<Number>raw().longValue() );
+            p_return.add( CRawTerm.of( Stream.generate( () -> l_generator.generate( l_random, l_length ) ).limit( l_number ).collect( Collectors.toList() ) ) );
+        }
+        else
+            p_return.add( CRawTerm.of( CParallel.values( p_parallel, Collections.nCopies( l_number, l_length ), l_generator::generate ) ) );
+
+        return Stream.empty();
+    }
+
+}
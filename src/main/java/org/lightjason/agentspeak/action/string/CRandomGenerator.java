@@ -0,0 +1,135 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * random string generator of an alphabet.
+ * The generator stores the distinct code points of the alphabet
+ * and samples each character by a direct index, generators are
+ * immutable and cached by the alphabet, so they can be used by
+ * any number of threads
+ */
+public final class CRandomGenerator
+{
+    /**
+     * default number of cached generators
+     */
+    public static final int DEFAULTCAPACITY = 64;
+    /**
+     * cached generators
+     */
+    private static final CCache<String, CRandomGenerator> GENERATORS = new CCache<>( DEFAULTCAPACITY );
+    /**
+     * distinct code points of the alphabet
+     */
+    private final int[] m_codepoints;
+    /**
+     * characters, if all code points are within the basic multilingual plane
+     */
+    private final char[] m_characters;
+
+    /**
+     * ctor
+     *
+     * @param p_alphabet alphabet
+     */
+    private CRandomGenerator( @Nonnull final String p_alphabet )
+    {
+        m_codepoints = p_alphabet.codePoints().distinct().toArray();
+
+        final boolean l_basic = p_alphabet.codePoints().allMatch( Character::isBmpCodePoint );
+        m_characters = new char[l_basic ? m_codepoints.length : 0];
+        for ( int i = 0; i < m_characters.length; i++ )
+            m_characters[i] = (char) m_codepoints[i];
+    }
+
+    /**
+     * returns the cached generator of an alphabet
+     *
+     * @param p_alphabet alphabet
+     * @return generator
+     */
+    @Nonnull
+    public static CRandomGenerator of( @Nonnull final String p_alphabet )
+    {
+        return GENERATORS.get( p_alphabet, CRandomGenerator::new );
+    }
+
+    /**
+     * number of distinct characters
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_codepoints.length;
+    }
+
+    /**
+     * generates a string with the random generator of the current thread
+     *
+     * @param p_length number of characters
+     * @return random string
+     */
+    @Nonnull
+    public String generate( @Nonnegative final int p_length )
+    {
+        return this.generate( ThreadLocalRandom.current(), p_length );
+    }
+
+    /**
+     * generates a string
+     *
+     * @param p_random random generator
+     * @param p_length number of characters
+     * @return random string
+     */
+    @Nonnull
+    public String generate( @Nonnull final Random p_random, @Nonnegative final int p_length )
+    {
+        if ( p_length > 0 && m_codepoints.length == 0 )
+            throw new IllegalArgumentException( "alphabet is empty" );
+
+        if ( m_characters.length > 0 )
+        {
+            final char[] l_result = new char[p_length];
+            for ( int i = 0; i < p_length; i++ )
+                l_result[i] = m_characters[p_random.nextInt( m_characters.length )];
+            return new String( l_result );
+        }
+
+        final int[] l_result = new int[p_length];
+        for ( int i = 0; i < p_length; i++ )
+            l_result[i] = m_codepoints[p_random.nextInt( m_codepoints.length )];
+        return new String( l_result, 0, p_length );
+    }
+
+}
@@ -26,7 +26,6 @@ package org.lightjason.agentspeak.action.string;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -34,6 +33,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 
@@ -42,7 +42,8 @@ import java.util.stream.Stream;
  * The action replaces the first argument with the second argument
  * on each string beginning at the third argument and returns
  * all replaced strings. The first argument
- * of the action be defined as a regular expression
+ * of the action be defined as a regular expression, compiled
+ * expressions are cached
  *
  * {@code [A|B] = .string/replace( "search", "replace with", "this is a search string", "this is another string" );}
  *
@@ -79,14 +80,14 @@ public final class CReplace extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final String l_search = p_argument.get( 0 ).raw();
-        final String l_replace = p_argument.get( 1 ).raw();
+        final UnaryOperator<String> l_replacer = CPatternCache.replacer( CArgument.string( p_argument.get( 0 ) ), CArgument.string( p_argument.get( 1 ) ) );
 
-        CCommon.flatten( p_argument )
-               .skip( 2 )
-               .map( i -> i.<String>raw().replaceAll( l_search, l_replace ) )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).skip( 2 ).map( CArgument::string ),
+            i -> CInternPool.apply( l_replacer.apply( i ) ),
+            p_return
+        );
 
         return Stream.empty();
     }
@@ -26,7 +26,6 @@ package org.lightjason.agentspeak.action.string;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -75,11 +74,12 @@ public final class CReverse extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<String>raw )
-               .map( i -> new StringBuilder( i ).reverse().toString() )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).map( CArgument::string ),
+            i -> CInternPool.apply( CTransform.reverse( i ) ),
+            p_return
+        );
 
         return Stream.empty();
     }
@@ -0,0 +1,176 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * immutable string builder for incremental concatenation.
+ * Ropes of one append chain share a buffer, so appending to
+ * the latest rope of the chain does not copy the content, if an
+ * older rope is appended, the rope branches and copies its content
+ * to a new buffer, the string is created only on the first read
+ */
+public final class CRope implements CharSequence
+{
+    /**
+     * shared buffer
+     */
+    private final StringBuilder m_buffer;
+    /**
+     * length of the rope within the buffer
+     */
+    private final int m_length;
+    /**
+     * materialized string
+     */
+    private volatile String m_string;
+
+    /**
+     * ctor
+     *
+     * @param p_buffer buffer
+     * @param p_length length
+     */
+    private CRope( @Nonnull final StringBuilder p_buffer, @Nonnegative final int p_length )
+    {
+        m_buffer = p_buffer;
+        m_length = p_length;
+    }
+
+    /**
+     * creates a rope
+     *
+     * @param p_values values, null values are ignored
+     * @return rope
+     */
+    @Nonnull
+    public static CRope of( @Nonnull final Stream<?> p_values )
+    {
+        final StringBuilder l_buffer = new StringBuilder( join( p_values ) );
+        return new CRope( l_buffer, l_buffer.length() );
+    }
+
+    /**
+     * appends values
+     *
+     * @param p_values values, null values are ignored
+     * @return new rope
+     */
+    @Nonnull
+    public CRope append( @Nonnull final Stream<?> p_values )
+    {
+        final String l_value = join( p_values );
+
+        synchronized ( m_buffer )
+        {
+            if ( m_buffer.length() == m_length )
+            {
+                m_buffer.append( l_value );
+                return new CRope( m_buffer, m_buffer.length() );
+            }
+        }
+
+        final StringBuilder l_buffer = new StringBuilder( 2 * ( m_length + l_value.length() ) );
+        synchronized ( m_buffer )
+        {
+            l_buffer.append( m_buffer, 0, m_length );
+        }
+        l_buffer.append( l_value );
+        return new CRope( l_buffer, l_buffer.length() );
+    }
+
+    @Override
+    public int length()
+    {
+        return m_length;
+    }
+
+    @Override
+    public char charAt( final int p_index )
+    {
+        Objects.checkIndex( p_index, m_length );
+        synchronized ( m_buffer )
+        {
+            return m_buffer.charAt( p_index );
+        }
+    }
+
+    @Nonnull
+    @Override
+    public CharSequence subSequence( final int p_start, final int p_end )
+    {
+        Objects.checkFromToIndex( p_start, p_end, m_length );
+        synchronized ( m_buffer )
+        {
+            return m_buffer.substring( p_start, p_end );
+        }
+    }
+
+    @Nonnull
+    @Override
+    public String toString()
+    {
+        String l_string = m_string;
+        if ( Objects.isNull( l_string ) )
+        {
+            synchronized ( m_buffer )
+            {
+                l_string = m_buffer.substring( 0, m_length );
+            }
+            m_string = l_string;
+        }
+        return l_string;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.toString().hashCode();
+    }
+
+    @Override
+    public boolean equals( final Object p_object )
+    {
+        return p_object instanceof CRope && this.toString().equals( p_object.toString() );
+    }
+
+    /**
+     * joins the string representation of values
+     *
+     * @param p_values values
+     * @return string
+     */
+    @Nonnull
+    private static String join( @Nonnull final Stream<?> p_values )
+    {
+        return p_values.filter( Objects::nonNull ).map( Object::toString ).collect( Collectors.joining() );
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+
+/**
+ * hashed character shingles.
+ * A shingle is a sequence of k code points of a string, each
+ * shingle is represented by a 64 bit hash, so the shingles are
+ * created without substrings, if the string is shorter than k,
+ * the whole string is the only shingle
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/W-shingling"></a>
+ */
+public final class CShingle
+{
+    /**
+     * default shingle size
+     */
+    public static final int DEFAULTSIZE = 3;
+    /**
+     * fnv-1a offset basis
+     */
+    private static final long OFFSET = 0xcbf29ce484222325L;
+    /**
+     * fnv-1a prime
+     */
+    private static final long PRIME = 0x100000001b3L;
+
+    /**
+     * ctor
+     */
+    private CShingle()
+    {
+    }
+
+    /**
+     * returns the hashes of all shingles in string order
+     *
+     * @param p_value string
+     * @param p_size shingle size in code points
+     * @return shingle hashes
+     */
+    @Nonnull
+    public static long[] hashes( @Nonnull final String p_value, @Nonnegative final int p_size )
+    {
+        if ( p_value.isEmpty() )
+            return new long[0];
+
+        // start index of each code point and the end of the string
+        final int[] l_offsets = new int[p_value.codePointCount( 0, p_value.length() ) + 1];
+        for ( int i = 0, j = 0; i < p_value.length(); i += Character.charCount( p_value.codePointAt( i ) ) )
+            l_offsets[j++] = i;
+        l_offsets[l_offsets.length - 1] = p_value.length();
+
+        final int l_size = Math.max( 1, Math.min( p_size, l_offsets.length - 1 ) );
+        final long[] l_hashes = new long[l_offsets.length - l_size];
+        for ( int i = 0; i < l_hashes.length; i++ )
+            l_hashes[i] = hash( p_value, l_offsets[i], l_offsets[i + l_size] );
+
+        return l_hashes;
+    }
+
+    /**
+     * returns the set of shingles
+     *
+     * @param p_value string
+     * @param p_size shingle size in code points
+     * @return sorted distinct shingle hashes
+     */
+    @Nonnull
+    public static long[] set( @Nonnull final String p_value, @Nonnegative final int p_size )
+    {
+        return Arrays.stream( hashes( p_value, p_size ) ).sorted().distinct().toArray();
+    }
+
+    /**
+     * returns the set of whitespace separated words
+     *
+     * @param p_value string
+     * @return sorted distinct word hashes
+     */
+    @Nonnull
+    public static long[] words( @Nonnull final String p_value )
+    {
+        final LongStream.Builder l_hashes = LongStream.builder();
+        for ( int i = 0; i < p_value.length(); )
+        {
+            while ( i < p_value.length() && Character.isWhitespace( p_value.charAt( i ) ) )
+                i++;
+
+            final int l_start = i;
+            while ( i < p_value.length() && !Character.isWhitespace( p_value.charAt( i ) ) )
+                i++;
+
+            if ( i > l_start )
+                l_hashes.add( hash( p_value, l_start, i ) );
+        }
+
+        return l_hashes.build().sorted().distinct().toArray();
+    }
+
+    /**
+     * calculates the jaccard similarity of two shingle sets
+     *
+     * @param p_first sorted distinct shingle hashes
+     * @param p_second sorted distinct shingle hashes
+     * @return similarity, two empty sets are equal
+     */
+    public static double jaccard( @Nonnull final long[] p_first, @Nonnull final long[] p_second )
+    {
+        if ( p_first.length == 0 && p_second.length == 0 )
+            return 1;
+
+        int l_intersection = 0;
+        for ( int i = 0, j = 0; i < p_first.length && j < p_second.length; )
+        {
+            final int l_compare = Long.compare( p_first[i], p_second[j] );
+            if ( l_compare == 0 )
+                l_intersection++;
+            if ( l_compare <= 0 )
+                i++;
+            if ( l_compare >= 0 )
+                j++;
+        }
+
+        return l_intersection / (double) ( p_first.length + p_second.length - l_intersection );
+    }
+
+    /**
+     * mixes a 64 bit value
+     *
+     * @param p_value value
+     * @return mixed value
+     */
+    public static long mix( final long p_value )
+    {
+        long l_value = p_value;
+        l_value ^= l_value >>> 33;
+        l_value *= 0xff51afd7ed558ccdL;
+        l_value ^= l_value >>> 33;
+        l_value *= 0xc4ceb9fe1a85ec53L;
+        l_value ^= l_value >>> 33;
+        return l_value;
+    }
+
+    /**
+     * hashes a substring
+     *
+     * @param p_value string
+     * @param p_start start index
+     * @param p_end end index
+     * @return hash
+     */
+    private static long hash( @Nonnull final String p_value, final int p_start, final int p_end )
+    {
+        long l_hash = OFFSET;
+        for ( int i = p_start; i < p_end; i++ )
+        {
+            l_hash ^= p_value.charAt( i );
+            l_hash *= PRIME;
+        }
+        return mix( l_hash );
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * joins two string lists by their jaccard similarity.
+ * The action returns a list of all pairs [ left index, right index, similarity ]
+ * with a similarity greater or equal than the threshold, the first numerical
+ * argument is the threshold within (0, 1], the optional second is the size of
+ * the character shingles, a size of zero uses whitespace separated words, the
+ * next list argument is the left side and the last one the right side, if only
+ * one list exists, it will be joined with itself and each pair is returned once
+ * with the lower index on the left side, candidate pairs are pruned by prefix
+ * filtering, so only a few pairs are verified
+ *
+ * {@code L = .string/similarityjoin( 0.8, ["foo bar", "test"], ["bar foo", "tests"] );}
+ * {@code L = .string/similarityjoin( 0.5, 0, ["foo bar", "test"], ["bar foo", "tests"] );}
+ *
+ * @see <a href="https://doi.org/10.1145/1367497.1367516"></a>
+ */
+public final class CSimilarityJoin extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3085390426357839427L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSimilarityJoin.class, "string" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final double[] l_values = p_argument.stream()
+                                            .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                                            .map( ITerm::<Number>raw )
+                                            .mapToDouble( Number::doubleValue )
+                                            .toArray();
+
+        final List<List<String>> l_lists = p_argument.stream()
+                                                     .filter( i -> CCommon.isssignableto( i, List.class ) )
+                                                     .map( i -> CCommon.flatten( Stream.of( i ) )
+                                                                       .filter( j -> CArgument.isstring( j ) )
+                                                                       .map( CArgument::string )
+                                                                       .collect( Collectors.toList() ) )
+                                                     .collect( Collectors.toList() );
+
+        if ( l_values.length == 0 || l_lists.isEmpty() )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentnumberwrong" ) );
+
+        if ( l_values[0] <= 0 || l_values[0] > 1 )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongthreshold", l_values[0] ) );
+
+        // token sets of both sides
+        final int l_size = l_values.length > 1 ? (int) l_values[1] : CShingle.DEFAULTSIZE;
+        final Function<String, long[]> l_tokens = l_size < 1 ? CShingle::words : i -> CShingle.set( i, l_size );
+
+        final boolean l_self = l_lists.size() == 1;
+        final List<long[]> l_left = CParallel.values( p_parallel, l_lists.get( 0 ), l_tokens );
+        final List<long[]> l_right = l_self ? l_left : CParallel.values( p_parallel, l_lists.get( l_lists.size() - 1 ), l_tokens );
+
+        // probe and verification of each left set, a self-join checks only higher indices
+        final CPPJoin l_join = new CPPJoin( l_values[0], l_left, l_right );
+        final List<Integer> l_indices = IntStream.range( 0, l_left.size() ).boxed().collect( Collectors.toList() );
+
+        p_return.add(
+            CRawTerm.of(
+                CParallel.values( p_parallel, l_indices, i -> l_join.join( i, l_self ? i + 1 : 0 ).stream().map( j -> Arrays.<Number>asList( i, j.getKey(), j.getValue() ) ) )
+                         .stream()
+                         .flatMap( i -> i )
+                         .collect( Collectors.toList() )
+            )
+        );
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.stream.Stream;
+
+
+/**
+ * string with a chunk mode, which is
+ * used for lazy lambda streaming
+ */
+public final class CStringChunk
+{
+    /**
+     * string
+     */
+    private final String m_value;
+    /**
+     * chunk mode
+     */
+    private final EChunk m_mode;
+    /**
+     * window size
+     */
+    private final int m_size;
+
+    /**
+     * ctor
+     *
+     * @param p_value string
+     * @param p_mode chunk mode
+     * @param p_size window size
+     */
+    public CStringChunk( @Nonnull final String p_value, @Nonnull final EChunk p_mode, @Nonnegative final int p_size )
+    {
+        m_value = p_value;
+        m_mode = p_mode;
+        m_size = p_size;
+    }
+
+    /**
+     * returns the string
+     *
+     * @return string
+     */
+    @Nonnull
+    public String value()
+    {
+        return m_value;
+    }
+
+    /**
+     * returns the chunk mode
+     *
+     * @return mode
+     */
+    @Nonnull
+    public EChunk mode()
+    {
+        return m_mode;
+    }
+
+    /**
+     * returns the lazy chunk stream
+     *
+     * @return chunk stream
+     */
+    @Nonnull
+    public Stream<String> stream()
+    {
+        return m_mode.apply( m_value, m_size );
+    }
+
+    @Override
+    public String toString()
+    {
+        return m_value;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * string with a n-gram size, which is
+ * used for lazy n-gram streaming
+ */
+public final class CStringNGrams
+{
+    /**
+     * string
+     */
+    private final String m_value;
+    /**
+     * n-gram size
+     */
+    private final int m_size;
+
+    /**
+     * ctor
+     *
+     * @param p_value string
+     * @param p_size n-gram size in code points
+     */
+    public CStringNGrams( @Nonnull final String p_value, @Nonnegative final int p_size )
+    {
+        m_value = p_value;
+        m_size = p_size;
+    }
+
+    /**
+     * returns the string
+     *
+     * @return string
+     */
+    @Nonnull
+    public String value()
+    {
+        return m_value;
+    }
+
+    /**
+     * returns the n-gram size
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * returns the lazy stream of overlapping character n-grams,
+     * a string with less than n characters has no n-grams
+     *
+     * @return n-gram stream
+     */
+    @Nonnull
+    public Stream<String> stream()
+    {
+        return stream( m_value, m_size );
+    }
+
+    @Override
+    public String toString()
+    {
+        return m_value;
+    }
+
+    /**
+     * creates a lazy stream of overlapping character n-grams
+     *
+     * @param p_value string
+     * @param p_size n-gram size in code points
+     * @return n-gram stream
+     */
+    @Nonnull
+    public static Stream<String> stream( @Nonnull final String p_value, final int p_size )
+    {
+        if ( p_size < 1 )
+            return Stream.empty();
+
+        // without surrogates each character is a code point
+        if ( p_value.codePointCount( 0, p_value.length() ) == p_value.length() )
+            return IntStream.rangeClosed( 0, p_value.length() - p_size ).mapToObj( i -> p_value.substring( i, i + p_size ) );
+
+        return IntStream.iterate( 0, i -> end( p_value, i, p_size ) > -1, i -> p_value.offsetByCodePoints( i, 1 ) )
+                        .mapToObj( i -> p_value.substring( i, end( p_value, i, p_size ) ) );
+    }
+
+    /**
+     * returns the end index of a n-gram
+     *
+     * @param p_value string
+     * @param p_start start index
+     * @param p_size n-gram size in code points
+     * @return end index or -1 if the string is too short
+     */
+    private static int end( @Nonnull final String p_value, final int p_start, final int p_size )
+    {
+        int l_end = p_start;
+        for ( int i = 0; i < p_size; i++ )
+        {
+            if ( l_end >= p_value.length() )
+                return -1;
+            l_end += Character.charCount( p_value.codePointAt( l_end ) );
+        }
+        return l_end;
+    }
+}
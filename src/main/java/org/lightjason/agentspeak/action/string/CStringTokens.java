@@ -0,0 +1,96 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnull;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+
+/**
+ * string with a delimiter, which is
+ * used for lazy token streaming
+ */
+public final class CStringTokens
+{
+    /**
+     * string
+     */
+    private final String m_value;
+    /**
+     * delimiter
+     */
+    private final Pattern m_delimiter;
+
+    /**
+     * ctor
+     *
+     * @param p_value string
+     * @param p_delimiter delimiter
+     */
+    public CStringTokens( @Nonnull final String p_value, @Nonnull final Pattern p_delimiter )
+    {
+        m_value = p_value;
+        m_delimiter = p_delimiter;
+    }
+
+    /**
+     * returns the string
+     *
+     * @return string
+     */
+    @Nonnull
+    public String value()
+    {
+        return m_value;
+    }
+
+    /**
+     * returns the delimiter
+     *
+     * @return delimiter pattern
+     */
+    @Nonnull
+    public Pattern delimiter()
+    {
+        return m_delimiter;
+    }
+
+    /**
+     * returns the lazy token stream, empty tokens are removed
+     *
+     * @return token stream
+     */
+    @Nonnull
+    public Stream<String> stream()
+    {
+        return m_delimiter.splitAsStream( m_value ).filter( i -> !i.isEmpty() );
+    }
+
+    @Override
+    public String toString()
+    {
+        return m_value;
+    }
+}
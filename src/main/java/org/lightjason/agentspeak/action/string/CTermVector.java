@@ -0,0 +1,106 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+
+/**
+ * sparse term-frequency vector of shingles,
+ * which is used for the cosine similarity
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Cosine_similarity"></a>
+ */
+public final class CTermVector
+{
+    /**
+     * sorted shingle hashes
+     */
+    private final long[] m_keys;
+    /**
+     * frequency of each shingle
+     */
+    private final int[] m_counts;
+    /**
+     * euclidean norm
+     */
+    private final double m_norm;
+
+    /**
+     * ctor
+     *
+     * @param p_value string
+     * @param p_size shingle size in code points
+     */
+    public CTermVector( @Nonnull final String p_value, @Nonnegative final int p_size )
+    {
+        final long[] l_hashes = CShingle.hashes( p_value, p_size );
+        Arrays.sort( l_hashes );
+
+        final long[] l_keys = new long[l_hashes.length];
+        final int[] l_counts = new int[l_hashes.length];
+        int l_size = 0;
+        for ( int i = 0; i < l_hashes.length; i++ )
+            if ( l_size > 0 && l_keys[l_size - 1] == l_hashes[i] )
+                l_counts[l_size - 1]++;
+            else
+            {
+                l_keys[l_size] = l_hashes[i];
+                l_counts[l_size++] = 1;
+            }
+
+        m_keys = Arrays.copyOf( l_keys, l_size );
+        m_counts = Arrays.copyOf( l_counts, l_size );
+        m_norm = Math.sqrt( Arrays.stream( m_counts ).mapToDouble( i -> (double) i * i ).sum() );
+    }
+
+    /**
+     * calculates the cosine similarity
+     *
+     * @param p_vector other vector
+     * @return similarity, two empty vectors are equal
+     */
+    public double cosine( @Nonnull final CTermVector p_vector )
+    {
+        if ( m_norm == 0 || p_vector.m_norm == 0 )
+            return m_norm == p_vector.m_norm ? 1 : 0;
+
+        double l_product = 0;
+        for ( int i = 0, j = 0; i < m_keys.length && j < p_vector.m_keys.length; )
+        {
+            final int l_compare = Long.compare( m_keys[i], p_vector.m_keys[j] );
+            if ( l_compare == 0 )
+                l_product += (double) m_counts[i] * p_vector.m_counts[j];
+            if ( l_compare <= 0 )
+                i++;
+            if ( l_compare >= 0 )
+                j++;
+        }
+
+        return Math.min( 1, l_product / ( m_norm * p_vector.m_norm ) );
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+
+/**
+ * action to split strings lazily into tokens.
+ * The first argument is the delimiter, that can be a pattern handle
+ * or a regular expression, for each other argument a token term is
+ * returned, which can be used within a lambda expression, so the
+ * tokens are created on streaming, empty tokens are removed
+ *
+ * {@code [A|B] = .string/tokenize( "[\\s,;]+", "first, second; third", "other text" ); (A) -> T | .print(T);}
+ */
+public final class CTokenize extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8157062283396170241L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CTokenize.class, "string" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final Pattern l_delimiter;
+        try
+        {
+            l_delimiter = CPatternCache.handle( p_argument.get( 0 ).raw() );
+        }
+        catch ( final IllegalArgumentException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).skip( 1 ).map( CArgument::string ),
+            i -> new CStringTokens( i, l_delimiter ),
+            p_return
+        );
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * string transformations with fast paths.
+ * Ascii strings are transformed on a byte copy of the
+ * string, other strings are transformed with the methods
+ * of the string class
+ */
+public final class CTransform
+{
+    /**
+     * languages with special case mapping of ascii characters
+     */
+    private static final Set<String> SPECIALCASING = Set.of( "tr", "az" );
+    /**
+     * grapheme cluster pattern
+     */
+    private static final Pattern GRAPHEME = Pattern.compile( "\\X" );
+    /**
+     * parsed locales
+     */
+    private static final CCache<String, Locale> LOCALES = new CCache<>( 64 );
+
+    /**
+     * ctor
+     */
+    private CTransform()
+    {
+    }
+
+    /**
+     * returns a locale of a language tag
+     *
+     * @param p_tag language tag, root, und or an empty tag defines the root locale
+     * @return locale
+     */
+    @Nonnull
+    public static Locale locale( @Nonnull final String p_tag )
+    {
+        return LOCALES.get(
+            p_tag,
+            i -> "root".equalsIgnoreCase( i.trim() ) || i.isBlank() ? Locale.ROOT : Locale.forLanguageTag( i.trim().replace( '_', '-' ) )
+        );
+    }
+
+    /**
+     * converts a string to upper-case
+     *
+     * @param p_string string
+     * @param p_locale locale
+     * @return upper-case string
+     */
+    @Nonnull
+    public static String upper( @Nonnull final String p_string, @Nonnull final Locale p_locale )
+    {
+        return ascii( p_string, p_locale ) ? shift( p_string, 'a', 'z', 'A' - 'a' ) : p_string.toUpperCase( p_locale );
+    }
+
+    /**
+     * converts a string to lower-case
+     *
+     * @param p_string string
+     * @param p_locale locale
+     * @return lower-case string
+     */
+    @Nonnull
+    public static String lower( @Nonnull final String p_string, @Nonnull final Locale p_locale )
+    {
+        return ascii( p_string, p_locale ) ? shift( p_string, 'A', 'Z', 'a' - 'A' ) : p_string.toLowerCase( p_locale );
+    }
+
+    /**
+     * reverses a string by code points
+     *
+     * @param p_string string
+     * @return reversed string
+     */
+    @Nonnull
+    public static String reverse( @Nonnull final String p_string )
+    {
+        if ( !latin1( p_string ) )
+            return new StringBuilder( p_string ).reverse().toString();
+
+        final byte[] l_bytes = p_string.getBytes( StandardCharsets.ISO_8859_1 );
+        for ( int i = 0, j = l_bytes.length - 1; i < j; i++, j-- )
+        {
+            final byte l_swap = l_bytes[i];
+            l_bytes[i] = l_bytes[j];
+            l_bytes[j] = l_swap;
+        }
+        return new String( l_bytes, StandardCharsets.ISO_8859_1 );
+    }
+
+    /**
+     * reverses a string by grapheme clusters, so combining
+     * characters, emoji sequences and line breaks keep their order
+     *
+     * @param p_string string
+     * @return reversed string
+     */
+    @Nonnull
+    public static String graphemereverse( @Nonnull final String p_string )
+    {
+        if ( ascii( p_string, Locale.ROOT ) && p_string.indexOf( '\r' ) < 0 )
+            return reverse( p_string );
+
+        final List<String> l_clusters = new ArrayList<>();
+        final Matcher l_matcher = GRAPHEME.matcher( p_string );
+        while ( l_matcher.find() )
+            l_clusters.add( l_matcher.group() );
+
+        final StringBuilder l_result = new StringBuilder( p_string.length() );
+        for ( int i = l_clusters.size() - 1; i > -1; i-- )
+            l_result.append( l_clusters.get( i ) );
+        return l_result.toString();
+    }
+
+    /**
+     * checks if the ascii fast path can be used
+     *
+     * @param p_string string
+     * @param p_locale locale
+     * @return ascii flag
+     */
+    private static boolean ascii( @Nonnull final String p_string, @Nonnull final Locale p_locale )
+    {
+        if ( SPECIALCASING.contains( p_locale.getLanguage() ) )
+            return false;
+
+        for ( int i = 0; i < p_string.length(); i++ )
+            if ( p_string.charAt( i ) > 0x7f )
+                return false;
+        return true;
+    }
+
+    /**
+     * checks if a string contains only latin-1 characters
+     *
+     * @param p_string string
+     * @return latin-1 flag
+     */
+    private static boolean latin1( @Nonnull final String p_string )
+    {
+        for ( int i = 0; i < p_string.length(); i++ )
+            if ( p_string.charAt( i ) > 0xff )
+                return false;
+        return true;
+    }
+
+    /**
+     * shifts an ascii character range, the string
+     * is copied only if a character is changed
+     *
+     * @param p_string ascii string
+     * @param p_lower lower bound of the range
+     * @param p_upper upper bound of the range
+     * @param p_shift shift value
+     * @return shifted string
+     */
+    @Nonnull
+    private static String shift( @Nonnull final String p_string, final char p_lower, final char p_upper, final int p_shift )
+    {
+        int l_first = 0;
+        while ( l_first < p_string.length() && ( p_string.charAt( l_first ) < p_lower || p_string.charAt( l_first ) > p_upper ) )
+            l_first++;
+        if ( l_first == p_string.length() )
+            return p_string;
+
+        final byte[] l_bytes = p_string.getBytes( StandardCharsets.US_ASCII );
+        for ( int i = l_first; i < l_bytes.length; i++ )
+            if ( l_bytes[i] >= p_lower && l_bytes[i] <= p_upper )
+                l_bytes[i] += p_shift;
+        return new String( l_bytes, StandardCharsets.US_ASCII );
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * symmetric distance matrix with zero diagonal.
+ * Only the upper triangle is stored in one packed array,
+ * the matrix is calculated in square tiles, so the strings
+ * of a tile stay within the cache, and the tiles are
+ * distributed over the fork-join pool
+ */
+public final class CTriangularMatrix
+{
+    /**
+     * number of strings of a tile side
+     */
+    public static final int TILESIZE = 64;
+    /**
+     * number of rows and columns
+     */
+    private final int m_size;
+    /**
+     * packed upper triangle without diagonal
+     */
+    private final double[] m_values;
+
+    /**
+     * ctor
+     *
+     * @param p_size number of rows and columns
+     * @param p_values packed upper triangle
+     */
+    private CTriangularMatrix( @Nonnegative final int p_size, @Nonnull final double[] p_values )
+    {
+        m_size = p_size;
+        m_values = p_values;
+    }
+
+    /**
+     * calculates the distance matrix
+     *
+     * @param p_parallel parallel execution flag
+     * @param p_strings strings
+     * @param p_distance function which creates the distance function of a reference string
+     * @return matrix
+     */
+    @Nonnull
+    public static CTriangularMatrix of( final boolean p_parallel, @Nonnull final List<String> p_strings,
+                                        @Nonnull final Function<String, ToDoubleFunction<String>> p_distance )
+    {
+        final int l_size = p_strings.size();
+        if ( pairs( l_size ) > Integer.MAX_VALUE - 8 )
+            throw new IllegalArgumentException( "number of strings [" + l_size + "] exceeds the matrix size" );
+
+        final CTriangularMatrix l_matrix = new CTriangularMatrix( l_size, new double[(int) pairs( l_size )] );
+
+        // tiles of the upper triangle, the diagonal tiles are only half filled
+        final int l_blocks = ( l_size + TILESIZE - 1 ) / TILESIZE;
+        final int[][] l_tiles = IntStream.range( 0, l_blocks )
+                                         .boxed()
+                                         .flatMap( i -> IntStream.range( i, l_blocks ).mapToObj( j -> new int[]{i, j} ) )
+                                         .toArray( int[][]::new );
+
+        CParallel.range( p_parallel, l_tiles.length, l_matrix.m_values.length, i -> l_matrix.tile( p_strings, p_distance, l_tiles[i][0], l_tiles[i][1] ) );
+        return l_matrix;
+    }
+
+    /**
+     * returns the number of rows and columns
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * returns a distance
+     *
+     * @param p_row row index
+     * @param p_column column index
+     * @return distance
+     */
+    public double get( @Nonnegative final int p_row, @Nonnegative final int p_column )
+    {
+        if ( p_row < 0 || p_column < 0 || p_row >= m_size || p_column >= m_size )
+            throw new IndexOutOfBoundsException( "index [" + p_row + ", " + p_column + "] is out of matrix size [" + m_size + "]" );
+
+        if ( p_row == p_column )
+            return 0;
+
+        return p_row < p_column ? m_values[this.index( p_row, p_column )] : m_values[this.index( p_column, p_row )];
+    }
+
+    /**
+     * returns a row
+     *
+     * @param p_row row index
+     * @return distances of the row
+     */
+    @Nonnull
+    public double[] row( @Nonnegative final int p_row )
+    {
+        return IntStream.range( 0, m_size ).mapToDouble( i -> this.get( p_row, i ) ).toArray();
+    }
+
+    @Override
+    public String toString()
+    {
+        return IntStream.range( 0, m_size )
+                        .mapToObj( i -> Arrays.toString( this.row( i ) ) )
+                        .collect( Collectors.joining( ", ", "[", "]" ) );
+    }
+
+    /**
+     * returns the number of stored distances
+     *
+     * @param p_size number of rows and columns
+     * @return number of pairs
+     */
+    private static long pairs( @Nonnegative final int p_size )
+    {
+        return (long) p_size * ( p_size - 1 ) / 2;
+    }
+
+    /**
+     * returns the packed index of the upper triangle
+     *
+     * @param p_row row index lower than the column index
+     * @param p_column column index
+     * @return array index
+     */
+    private int index( final int p_row, final int p_column )
+    {
+        return (int) ( pairs( m_size ) - pairs( m_size - p_row ) + p_column - p_row - 1 );
+    }
+
+    /**
+     * calculates the distances of a tile
+     *
+     * @param p_strings strings
+     * @param p_distance distance function factory
+     * @param p_rowblock row block index
+     * @param p_columnblock column block index
+     */
+    private void tile( @Nonnull final List<String> p_strings, @Nonnull final Function<String, ToDoubleFunction<String>> p_distance,
+                       final int p_rowblock, final int p_columnblock )
+    {
+        final int l_rowend = Math.min( m_size, ( p_rowblock + 1 ) * TILESIZE );
+        final int l_columnend = Math.min( m_size, ( p_columnblock + 1 ) * TILESIZE );
+
+        for ( int i = p_rowblock * TILESIZE; i < l_rowend; i++ )
+        {
+            final ToDoubleFunction<String> l_distance = p_distance.apply( p_strings.get( i ) );
+            for ( int j = Math.max( i + 1, p_columnblock * TILESIZE ); j < l_columnend; j++ )
+                m_values[this.index( i, j )] = l_distance.applyAsDouble( p_strings.get( j ) );
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * frozen character trie.
+ * The trie is build once for a list of words, afterwards
+ * the transitions of each node are stored in sorted
+ * arrays, so a transition is a binary search, on the
+ * reversed trie the words are inserted from the end
+ */
+final class CTrie
+{
+    /**
+     * sorted transition characters of each node
+     */
+    private final char[][] m_characters;
+    /**
+     * transition target nodes of each node
+     */
+    private final int[][] m_targets;
+    /**
+     * word indices, which end on each node
+     */
+    private final int[][] m_output;
+
+    /**
+     * ctor
+     *
+     * @param p_words words
+     * @param p_reversed insert words from the end
+     */
+    CTrie( @Nonnull final List<String> p_words, final boolean p_reversed )
+    {
+        final List<Map<Character, Integer>> l_trie = new ArrayList<>();
+        final List<List<Integer>> l_output = new ArrayList<>();
+        l_trie.add( new TreeMap<>() );
+        l_output.add( new ArrayList<>() );
+
+        for ( int i = 0; i < p_words.size(); i++ )
+        {
+            final String l_word = p_words.get( i );
+
+            int l_node = 0;
+            for ( int j = 0; j < l_word.length(); j++ )
+            {
+                final char l_char = l_word.charAt( p_reversed ? l_word.length() - 1 - j : j );
+                final Integer l_next = l_trie.get( l_node ).get( l_char );
+                if ( l_next != null )
+                    l_node = l_next;
+                else
+                {
+                    l_trie.get( l_node ).put( l_char, l_trie.size() );
+                    l_node = l_trie.size();
+                    l_trie.add( new TreeMap<>() );
+                    l_output.add( new ArrayList<>() );
+                }
+            }
+            l_output.get( l_node ).add( i );
+        }
+
+        m_characters = new char[l_trie.size()][];
+        m_targets = new int[l_trie.size()][];
+        m_output = new int[l_trie.size()][];
+        for ( int i = 0; i < l_trie.size(); i++ )
+        {
+            m_characters[i] = new char[l_trie.get( i ).size()];
+            m_targets[i] = new int[l_trie.get( i ).size()];
+
+            int l_index = 0;
+            for ( final Map.Entry<Character, Integer> l_entry : l_trie.get( i ).entrySet() )
+            {
+                m_characters[i][l_index] = l_entry.getKey();
+                m_targets[i][l_index++] = l_entry.getValue();
+            }
+            m_output[i] = l_output.get( i ).stream().mapToInt( Integer::intValue ).toArray();
+        }
+    }
+
+    /**
+     * number of nodes
+     *
+     * @return size
+     */
+    @Nonnegative
+    int size()
+    {
+        return m_characters.length;
+    }
+
+    /**
+     * sorted transition characters of a node
+     *
+     * @param p_node node
+     * @return characters
+     */
+    @Nonnull
+    char[] characters( @Nonnegative final int p_node )
+    {
+        return m_characters[p_node];
+    }
+
+    /**
+     * transition target nodes of a node
+     *
+     * @param p_node node
+     * @return target nodes in order of the characters
+     */
+    @Nonnull
+    int[] targets( @Nonnegative final int p_node )
+    {
+        return m_targets[p_node];
+    }
+
+    /**
+     * word indices, which end on a node
+     *
+     * @param p_node node
+     * @return ascending word indices
+     */
+    @Nonnull
+    int[] output( @Nonnegative final int p_node )
+    {
+        return m_output[p_node];
+    }
+
+    /**
+     * executes a transition
+     *
+     * @param p_node current node
+     * @param p_character character
+     * @return next node or -1
+     */
+    int step( @Nonnegative final int p_node, final char p_character )
+    {
+        final int l_index = Arrays.binarySearch( m_characters[p_node], p_character );
+        return l_index < 0 ? -1 : m_targets[p_node][l_index];
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * modes to split a string into chunks
+ */
+public enum EChunk
+{
+    CHARACTER,
+    WORD,
+    LINE,
+    WINDOW;
+
+    /**
+     * word separator
+     */
+    private static final Pattern WHITESPACE = Pattern.compile( "\\s+" );
+
+    /**
+     * creates a lazy stream of chunks
+     *
+     * @param p_value string
+     * @param p_size window size in code points
+     * @return chunk stream
+     */
+    @Nonnull
+    public final Stream<String> apply( @Nonnull final String p_value, @Nonnegative final int p_size )
+    {
+        switch ( this )
+        {
+            case CHARACTER:
+                return CLambdaStreaming.codepoints( p_value );
+
+            case WORD:
+                return WHITESPACE.splitAsStream( p_value ).filter( i -> !i.isEmpty() );
+
+            case LINE:
+                return p_value.lines();
+
+            case WINDOW:
+                return window( p_value, Math.max( 1, p_size ) );
+
+            default:
+                throw new IllegalStateException( this.toString() );
+        }
+    }
+
+    /**
+     * checks if a mode exists
+     *
+     * @param p_value mode name
+     * @return existing flag
+     */
+    public static boolean exist( @Nonnull final String p_value )
+    {
+        final String l_value = p_value.trim().toUpperCase( Locale.ROOT );
+        return Arrays.stream( EChunk.values() ).anyMatch( i -> i.name().equals( l_value ) );
+    }
+
+    /**
+     * returns a mode by name
+     *
+     * @param p_value mode name
+     * @return mode
+     */
+    @Nonnull
+    public static EChunk of( @Nonnull final String p_value )
+    {
+        return EChunk.valueOf( p_value.trim().toUpperCase( Locale.ROOT ) );
+    }
+
+    /**
+     * stream of fixed-length windows, the last window can be shorter
+     *
+     * @param p_value string
+     * @param p_size window size in code points
+     * @return window stream
+     */
+    @Nonnull
+    private static Stream<String> window( @Nonnull final String p_value, @Nonnegative final int p_size )
+    {
+        return IntStream.iterate( 0, i -> i < p_value.length(), i -> next( p_value, i, p_size ) )
+                        .mapToObj( i -> p_value.substring( i, next( p_value, i, p_size ) ) );
+    }
+
+    /**
+     * returns the end index of a window
+     *
+     * @param p_value string
+     * @param p_start start index
+     * @param p_size window size in code points
+     * @return end index
+     */
+    private static int next( @Nonnull final String p_value, final int p_start, final int p_size )
+    {
+        int l_end = p_start;
+        for ( int i = 0; i < p_size && l_end < p_value.length(); i++ )
+            l_end += Character.charCount( p_value.codePointAt( l_end ) );
+
+        return l_end;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string;
+
+import org.apache.commons.codec.language.DoubleMetaphone;
+import org.apache.commons.codec.language.Metaphone;
+import org.apache.commons.codec.language.Soundex;
+
+import javax.annotation.Nonnull;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+
+/**
+ * grouping keys of strings.
+ * Strings with equal keys sound equal (phonetic keys) or are equal
+ * after a unicode normalization (normalization keys), so strings can
+ * be grouped by the key and expensive distances are only calculated
+ * within a group, the encoders are thread-safe and created once,
+ * ascii strings skip the unicode normalization
+ */
+public enum EKey
+{
+    SOUNDEX,
+    METAPHONE,
+    DOUBLEMETAPHONE,
+    DOUBLEMETAPHONEALTERNATE,
+    NFKC,
+    ACCENTFOLD,
+    CASEFOLD,
+    NORMALIZE;
+
+    /**
+     * soundex encoder
+     */
+    private static final Soundex SOUNDEXENCODER = Soundex.US_ENGLISH;
+    /**
+     * metaphone encoder
+     */
+    private static final Metaphone METAPHONEENCODER = new Metaphone();
+    /**
+     * double metaphone encoder
+     */
+    private static final DoubleMetaphone DOUBLEMETAPHONEENCODER = new DoubleMetaphone();
+    /**
+     * combining marks
+     */
+    private static final Pattern MARKS = Pattern.compile( "\\p{M}+" );
+    /**
+     * non-ascii characters
+     */
+    private static final Pattern NONASCII = Pattern.compile( "[^\\p{ASCII}]+" );
+
+    /**
+     * creates the key of a string
+     *
+     * @param p_value string
+     * @return key
+     */
+    @Nonnull
+    public final String apply( @Nonnull final String p_value )
+    {
+        switch ( this )
+        {
+            case SOUNDEX:
+                return SOUNDEXENCODER.soundex( phonetic( p_value ) );
+
+            case METAPHONE:
+                return METAPHONEENCODER.metaphone( phonetic( p_value ) );
+
+            case DOUBLEMETAPHONE:
+                return Objects.requireNonNullElse( DOUBLEMETAPHONEENCODER.doubleMetaphone( phonetic( p_value ), false ), "" );
+
+            case DOUBLEMETAPHONEALTERNATE:
+                return Objects.requireNonNullElse( DOUBLEMETAPHONEENCODER.doubleMetaphone( phonetic( p_value ), true ), "" );
+
+            case NFKC:
+                return nfkc( p_value );
+
+            case ACCENTFOLD:
+                return accentfold( p_value );
+
+            case CASEFOLD:
+                return casefold( p_value );
+
+            case NORMALIZE:
+                return casefold( accentfold( nfkc( p_value ) ) );
+
+            default:
+                throw new IllegalStateException( this.toString() );
+        }
+    }
+
+    /**
+     * checks if a key exists
+     *
+     * @param p_value key name
+     * @return existing flag
+     */
+    public static boolean exist( @Nonnull final String p_value )
+    {
+        final String l_value = p_value.trim().toUpperCase( Locale.ROOT );
+        return Arrays.stream( EKey.values() ).anyMatch( i -> i.name().equals( l_value ) );
+    }
+
+    /**
+     * returns a key by name
+     *
+     * @param p_value key name
+     * @return key
+     */
+    @Nonnull
+    public static EKey of( @Nonnull final String p_value )
+    {
+        return EKey.valueOf( p_value.trim().toUpperCase( Locale.ROOT ) );
+    }
+
+    /**
+     * checks if a string contains only ascii characters
+     *
+     * @param p_value string
+     * @return ascii flag
+     */
+    private static boolean ascii( @Nonnull final String p_value )
+    {
+        for ( int i = 0; i < p_value.length(); i++ )
+            if ( p_value.charAt( i ) > 0x7f )
+                return false;
+        return true;
+    }
+
+    /**
+     * prepares a string for the phonetic encoders, which
+     * support ascii letters only, so accents are removed and
+     * case folding replaces characters like sharp s
+     *
+     * @param p_value string
+     * @return ascii string
+     */
+    @Nonnull
+    private static String phonetic( @Nonnull final String p_value )
+    {
+        return ascii( p_value ) ? p_value : NONASCII.matcher( casefold( accentfold( nfkc( p_value ) ) ) ).replaceAll( "" );
+    }
+
+    /**
+     * compatibility normalization
+     *
+     * @param p_value string
+     * @return normalized string
+     */
+    @Nonnull
+    private static String nfkc( @Nonnull final String p_value )
+    {
+        return ascii( p_value ) || Normalizer.isNormalized( p_value, Normalizer.Form.NFKC )
+               ? p_value
+               : Normalizer.normalize( p_value, Normalizer.Form.NFKC );
+    }
+
+    /**
+     * removes accents and other combining marks
+     *
+     * @param p_value string
+     * @return string without marks
+     */
+    @Nonnull
+    private static String accentfold( @Nonnull final String p_value )
+    {
+        return ascii( p_value )
+               ? p_value
+               : Normalizer.normalize( MARKS.matcher( Normalizer.normalize( p_value, Normalizer.Form.NFD ) ).replaceAll( "" ), Normalizer.Form.NFC );
+    }
+
+    /**
+     * case folding, so strings with different
+     * case are equal after folding
+     *
+     * @param p_value string
+     * @return folded string
+     */
+    @Nonnull
+    private static String casefold( @Nonnull final String p_value )
+    {
+        return ascii( p_value )
+               ? CTransform.lower( p_value, Locale.ROOT )
+               : p_value.toUpperCase( Locale.ROOT ).toLowerCase( Locale.ROOT );
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.base64;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.CParallel;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action to decode with a Base64 alphabet to strings.
+ * The first argument is the alphabet ( BASIC | URL | MIME ),
+ * each other argument can be an encoded string, byte array or
+ * byte buffer, the decoded utf-8 strings are returned, the action
+ * fails on decoding error
+ *
+ * {@code [A|B] = .string/base64/decode( "url", "SGVsbG8=", "QWdlbnRTcGVhayhMKysp" );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Base64"></a>
+ */
+public final class CDecode extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -7511985460935926340L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CDecode.class, "string", "base64" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final String l_name = p_argument.get( 0 ).raw();
+        if ( !EBase64.exist( l_name ) )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownalphabet", l_name ) );
+
+        final EBase64 l_alphabet = EBase64.of( l_name );
+
+        try
+        {
+            CParallel.apply(
+                p_parallel,
+                CCommon.flatten( p_argument ).skip( 1 ).map( ITerm::<Object>raw ),
+                l_alphabet::decodestring,
+                p_return
+            );
+        }
+        catch ( final IllegalArgumentException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.base64;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+
+
+/**
+ * base64 alphabets.
+ * Strings, byte arrays and byte buffers can be encoded and decoded, large
+ * strings are encoded in chunks, so no full byte copy of the input is created
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Base64"></a>
+ */
+public enum EBase64
+{
+    BASIC( Base64.getEncoder(), Base64.getDecoder() ),
+    URL( Base64.getUrlEncoder(), Base64.getUrlDecoder() ),
+    MIME( Base64.getMimeEncoder(), Base64.getMimeDecoder() );
+
+    /**
+     * number of characters, which are encoded in a single chunk
+     */
+    private static final int CHUNKSIZE = 8192;
+    /**
+     * encoder
+     */
+    private final Base64.Encoder m_encoder;
+    /**
+     * decoder
+     */
+    private final Base64.Decoder m_decoder;
+
+    /**
+     * ctor
+     *
+     * @param p_encoder encoder
+     * @param p_decoder decoder
+     */
+    EBase64( @Nonnull final Base64.Encoder p_encoder, @Nonnull final Base64.Decoder p_decoder )
+    {
+        m_encoder = p_encoder;
+        m_decoder = p_decoder;
+    }
+
+    /**
+     * encodes a value, strings are encoded as utf-8
+     *
+     * @param p_value string, byte array or byte buffer
+     * @return encoded string
+     */
+    @Nonnull
+    public final String encode( @Nonnull final Object p_value )
+    {
+        if ( p_value instanceof byte[] )
+            return m_encoder.encodeToString( (byte[]) p_value );
+
+        if ( p_value instanceof ByteBuffer )
+            return ascii( m_encoder.encode( ( (ByteBuffer) p_value ).duplicate() ) );
+
+        final String l_value = p_value.toString();
+        return l_value.length() < CHUNKSIZE
+               ? m_encoder.encodeToString( l_value.getBytes( StandardCharsets.UTF_8 ) )
+               : this.encodechunks( l_value );
+    }
+
+    /**
+     * decodes a value
+     *
+     * @param p_value encoded string, byte array or byte buffer
+     * @return decoded bytes
+     * @throws IllegalArgumentException on decoding error
+     */
+    @Nonnull
+    public final ByteBuffer decode( @Nonnull final Object p_value )
+    {
+        if ( p_value instanceof byte[] )
+            return ByteBuffer.wrap( m_decoder.decode( (byte[]) p_value ) );
+
+        if ( p_value instanceof ByteBuffer )
+            return m_decoder.decode( ( (ByteBuffer) p_value ).duplicate() );
+
+        return ByteBuffer.wrap( m_decoder.decode( p_value.toString().getBytes( StandardCharsets.ISO_8859_1 ) ) );
+    }
+
+    /**
+     * decodes a value to an utf-8 string
+     *
+     * @param p_value encoded string, byte array or byte buffer
+     * @return decoded string
+     * @throws IllegalArgumentException on decoding error
+     */
+    @Nonnull
+    public final String decodestring( @Nonnull final Object p_value )
+    {
+        final ByteBuffer l_buffer = this.decode( p_value );
+        return new String( l_buffer.array(), l_buffer.arrayOffset() + l_buffer.position(), l_buffer.remaining(), StandardCharsets.UTF_8 );
+    }
+
+    /**
+     * checks if an alphabet exists
+     *
+     * @param p_value alphabet name
+     * @return existing flag
+     */
+    public static boolean exist( @Nonnull final String p_value )
+    {
+        final String l_value = p_value.trim().toUpperCase( Locale.ROOT );
+        return Arrays.stream( EBase64.values() ).anyMatch( i -> i.name().equals( l_value ) );
+    }
+
+    /**
+     * returns an alphabet by name
+     *
+     * @param p_value alphabet name
+     * @return alphabet
+     */
+    @Nonnull
+    public static EBase64 of( @Nonnull final String p_value )
+    {
+        return EBase64.valueOf( p_value.trim().toUpperCase( Locale.ROOT ) );
+    }
+
+    /**
+     * encodes a large string in chunks
+     *
+     * @param p_value string
+     * @return encoded string
+     */
+    @Nonnull
+    private String encodechunks( @Nonnull final String p_value )
+    {
+        // replacement on malformed input is equal to String::getBytes
+        final CharsetEncoder l_charset = StandardCharsets.UTF_8.newEncoder()
+                                                               .onMalformedInput( CodingErrorAction.REPLACE )
+                                                               .onUnmappableCharacter( CodingErrorAction.REPLACE );
+        final CharBuffer l_input = CharBuffer.wrap( p_value );
+        final ByteBuffer l_chunk = ByteBuffer.allocate( 3 * CHUNKSIZE );
+        final ByteArrayOutputStream l_output = new ByteArrayOutputStream( 4 * ( p_value.length() / 3 + 1 ) );
+
+        try ( OutputStream l_stream = m_encoder.wrap( l_output ) )
+        {
+            CoderResult l_result;
+            do
+            {
+                l_result = l_charset.encode( l_input, l_chunk, true );
+                write( l_chunk, l_stream );
+            } while ( l_result.isOverflow() );
+
+            do
+            {
+                l_result = l_charset.flush( l_chunk );
+                write( l_chunk, l_stream );
+            } while ( l_result.isOverflow() );
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new UncheckedIOException( l_exception );
+        }
+
+        return l_output.toString( StandardCharsets.ISO_8859_1 );
+    }
+
+    /**
+     * writes the chunk to the stream and clears the chunk
+     *
+     * @param p_chunk chunk
+     * @param p_stream output stream
+     * @throws IOException on writing error
+     */
+    private static void write( @Nonnull final ByteBuffer p_chunk, @Nonnull final OutputStream p_stream ) throws IOException
+    {
+        p_chunk.flip();
+        p_stream.write( p_chunk.array(), p_chunk.arrayOffset(), p_chunk.limit() );
+        p_chunk.clear();
+    }
+
+    /**
+     * creates a string of an ascii buffer
+     *
+     * @param p_buffer buffer
+     * @return string
+     */
+    @Nonnull
+    private static String ascii( @Nonnull final ByteBuffer p_buffer )
+    {
+        return new String( p_buffer.array(), p_buffer.arrayOffset() + p_buffer.position(), p_buffer.remaining(), StandardCharsets.ISO_8859_1 );
+    }
+}
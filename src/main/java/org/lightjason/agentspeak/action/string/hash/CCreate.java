@@ -0,0 +1,100 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string.hash;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.CArgument;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to create incremental hashes.
+ * For each hash algorithm ( XXHASH64 | MURMUR3 | SHA256 )
+ * a hash handle is returned, which can be updated with
+ * strings, e.g. with the chunks of a lambda streaming
+ *
+ * {@code H = .string/hash/create( "sha256" );}
+ */
+public final class CCreate extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7338102751496431718L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CCreate.class, "string", "hash" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<String> l_names = CCommon.flatten( p_argument ).map( CArgument::string ).collect( Collectors.toList() );
+
+        final Optional<String> l_unknown = l_names.stream().filter( i -> !EHash.exist( i ) ).findFirst();
+        if ( l_unknown.isPresent() )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownalgorithm", l_unknown.get() )
+            );
+
+        l_names.stream()
+               .map( EHash::of )
+               .map( EHash::create )
+               .map( CRawTerm::of )
+               .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string.hash;
+
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * incremental 128 bit murmur3 hash (x64 variant) with seed zero
+ *
+ * @see <a href="https://github.com/aappleby/smhasher/blob/master/src/MurmurHash3.cpp"></a>
+ */
+public final class CMurmur3 extends IBaseStringHash
+{
+    /**
+     * first constant
+     */
+    private static final long C1 = 0x87c37b91114253d5L;
+    /**
+     * second constant
+     */
+    private static final long C2 = 0x4cf5ad432745937fL;
+    /**
+     * block size
+     */
+    private static final int BLOCK = 16;
+    /**
+     * block buffer
+     */
+    private final byte[] m_buffer = new byte[BLOCK];
+    /**
+     * first hash
+     */
+    private long m_first;
+    /**
+     * second hash
+     */
+    private long m_second;
+    /**
+     * number of buffered bytes
+     */
+    private int m_buffered;
+    /**
+     * total number of bytes
+     */
+    private long m_length;
+
+    @Override
+    protected void update( final byte p_value )
+    {
+        m_buffer[m_buffered++] = p_value;
+        m_length++;
+        if ( m_buffered < BLOCK )
+            return;
+
+        m_first ^= first( longvalue( m_buffer, 0 ) );
+        m_first = ( Long.rotateLeft( m_first, 27 ) + m_second ) * 5 + 0x52dce729;
+        m_second ^= second( longvalue( m_buffer, 8 ) );
+        m_second = ( Long.rotateLeft( m_second, 31 ) + m_first ) * 5 + 0x38495ab5;
+        m_buffered = 0;
+    }
+
+    @Nonnull
+    @Override
+    protected String hash()
+    {
+        long l_first = m_first;
+        long l_second = m_second;
+
+        // tail bytes are mixed without the block rotation
+        long l_low = 0;
+        long l_high = 0;
+        for ( int i = m_buffered - 1; i >= 0; i-- )
+            if ( i >= 8 )
+                l_high = l_high << 8 | m_buffer[i] & 0xffL;
+            else
+                l_low = l_low << 8 | m_buffer[i] & 0xffL;
+
+        if ( m_buffered > 8 )
+            l_second ^= second( l_high );
+        if ( m_buffered > 0 )
+            l_first ^= first( l_low );
+
+        l_first ^= m_length;
+        l_second ^= m_length;
+        l_first += l_second;
+        l_second += l_first;
+        l_first = fmix64( l_first );
+        l_second = fmix64( l_second );
+        l_first += l_second;
+        l_second += l_first;
+
+        return hex( l_first, l_second );
+    }
+
+    @Nonnull
+    @Override
+    protected IBaseStringHash copy()
+    {
+        final CMurmur3 l_copy = new CMurmur3();
+        System.arraycopy( m_buffer, 0, l_copy.m_buffer, 0, BLOCK );
+        l_copy.m_first = m_first;
+        l_copy.m_second = m_second;
+        l_copy.m_buffered = m_buffered;
+        l_copy.m_length = m_length;
+        return l_copy;
+    }
+
+    @Override
+    protected void clear()
+    {
+        m_first = 0;
+        m_second = 0;
+        m_buffered = 0;
+        m_length = 0;
+    }
+
+    /**
+     * mixes the first lane
+     *
+     * @param p_value lane
+     * @return mixed lane
+     */
+    private static long first( final long p_value )
+    {
+        return Long.rotateLeft( p_value * C1, 31 ) * C2;
+    }
+
+    /**
+     * mixes the second lane
+     *
+     * @param p_value lane
+     * @return mixed lane
+     */
+    private static long second( final long p_value )
+    {
+        return Long.rotateLeft( p_value * C2, 33 ) * C1;
+    }
+
+    /**
+     * finalization mix, which avalanches all bits
+     *
+     * @param p_value value
+     * @return mixed value
+     */
+    private static long fmix64( final long p_value )
+    {
+        long l_value = p_value;
+        l_value ^= l_value >>> 33;
+        l_value *= 0xff51afd7ed558ccdL;
+        l_value ^= l_value >>> 33;
+        l_value *= 0xc4ceb9fe1a85ec53L;
+        l_value ^= l_value >>> 33;
+        return l_value;
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string.hash;
+
+import javax.annotation.Nonnull;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+
+/**
+ * incremental sha-256 digest.
+ * Bytes are collected in a buffer and passed
+ * block-wise to the message digest
+ */
+public final class CSHA256 extends IBaseStringHash
+{
+    /**
+     * algorithm name
+     */
+    private static final String ALGORITHM = "SHA-256";
+    /**
+     * buffer size
+     */
+    private static final int BUFFERSIZE = 256;
+    /**
+     * byte buffer
+     */
+    private final byte[] m_buffer = new byte[BUFFERSIZE];
+    /**
+     * message digest
+     */
+    private final MessageDigest m_digest;
+    /**
+     * number of buffered bytes
+     */
+    private int m_buffered;
+
+    /**
+     * ctor
+     */
+    public CSHA256()
+    {
+        this( digest() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_digest message digest
+     */
+    private CSHA256( @Nonnull final MessageDigest p_digest )
+    {
+        m_digest = p_digest;
+    }
+
+    /**
+     * calculates the digest and resets the state,
+     * so the instance can be reused without copying
+     * the message digest
+     *
+     * @return hexadecimal digest
+     */
+    @Nonnull
+    public synchronized String finish()
+    {
+        this.complete();
+        m_digest.update( m_buffer, 0, m_buffered );
+        m_buffered = 0;
+        return hex( m_digest.digest() );
+    }
+
+    @Override
+    protected void update( final byte p_value )
+    {
+        m_buffer[m_buffered++] = p_value;
+        if ( m_buffered < BUFFERSIZE )
+            return;
+
+        m_digest.update( m_buffer, 0, BUFFERSIZE );
+        m_buffered = 0;
+    }
+
+    @Nonnull
+    @Override
+    protected String hash()
+    {
+        return hex( ( (CSHA256) this.copy() ).m_digest.digest() );
+    }
+
+    @Nonnull
+    @Override
+    protected IBaseStringHash copy()
+    {
+        try
+        {
+            final CSHA256 l_copy = new CSHA256( (MessageDigest) m_digest.clone() );
+            l_copy.m_digest.update( m_buffer, 0, m_buffered );
+            return l_copy;
+        }
+        catch ( final CloneNotSupportedException l_exception )
+        {
+            throw new IllegalStateException( l_exception );
+        }
+    }
+
+    @Override
+    protected void clear()
+    {
+        m_digest.reset();
+        m_buffered = 0;
+    }
+
+    /**
+     * creates a message digest
+     *
+     * @return sha-256 digest
+     */
+    @Nonnull
+    private static MessageDigest digest()
+    {
+        try
+        {
+            return MessageDigest.getInstance( ALGORITHM );
+        }
+        catch ( final NoSuchAlgorithmException l_exception )
+        {
+            throw new IllegalStateException( l_exception );
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string.hash;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * incremental 64 bit xxhash with seed zero
+ *
+ * @see <a href="https://github.com/Cyan4973/xxHash/blob/dev/doc/xxhash_spec.md"></a>
+ */
+public final class CXXHash64 extends IBaseStringHash
+{
+    /**
+     * first prime
+     */
+    private static final long PRIME1 = 0x9E3779B185EBCA87L;
+    /**
+     * second prime
+     */
+    private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+    /**
+     * third prime
+     */
+    private static final long PRIME3 = 0x165667B19E3779F9L;
+    /**
+     * fourth prime
+     */
+    private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+    /**
+     * fifth prime
+     */
+    private static final long PRIME5 = 0x27D4EB2F165667C5L;
+    /**
+     * stripe size
+     */
+    private static final int STRIPE = 32;
+    /**
+     * stripe buffer
+     */
+    private final byte[] m_buffer = new byte[STRIPE];
+    /**
+     * accumulators
+     */
+    private final long[] m_accumulator = new long[4];
+    /**
+     * number of buffered bytes
+     */
+    private int m_buffered;
+    /**
+     * total number of bytes
+     */
+    private long m_length;
+
+    /**
+     * ctor
+     */
+    public CXXHash64()
+    {
+        this.clear();
+    }
+
+    @Override
+    protected void update( final byte p_value )
+    {
+        m_buffer[m_buffered++] = p_value;
+        m_length++;
+        if ( m_buffered < STRIPE )
+            return;
+
+        for ( int i = 0; i < m_accumulator.length; i++ )
+            m_accumulator[i] = round( m_accumulator[i], longvalue( m_buffer, 8 * i ) );
+        m_buffered = 0;
+    }
+
+    @Nonnull
+    @Override
+    protected String hash()
+    {
+        long l_hash;
+        if ( m_length >= STRIPE )
+        {
+            l_hash = Long.rotateLeft( m_accumulator[0], 1 ) + Long.rotateLeft( m_accumulator[1], 7 )
+                     + Long.rotateLeft( m_accumulator[2], 12 ) + Long.rotateLeft( m_accumulator[3], 18 );
+            for ( final long l_accumulator : m_accumulator )
+                l_hash = ( l_hash ^ round( 0, l_accumulator ) ) * PRIME1 + PRIME4;
+        }
+        else
+            l_hash = PRIME5;
+
+        l_hash += m_length;
+
+        int i = 0;
+        for ( ; i + 8 <= m_buffered; i += 8 )
+            l_hash = Long.rotateLeft( l_hash ^ round( 0, longvalue( m_buffer, i ) ), 27 ) * PRIME1 + PRIME4;
+
+        if ( i + 4 <= m_buffered )
+        {
+            l_hash = Long.rotateLeft( l_hash ^ ( intvalue( m_buffer, i ) * PRIME1 ), 23 ) * PRIME2 + PRIME3;
+            i += 4;
+        }
+
+        for ( ; i < m_buffered; i++ )
+            l_hash = Long.rotateLeft( l_hash ^ ( ( m_buffer[i] & 0xffL ) * PRIME5 ), 11 ) * PRIME1;
+
+        l_hash ^= l_hash >>> 33;
+        l_hash *= PRIME2;
+        l_hash ^= l_hash >>> 29;
+        l_hash *= PRIME3;
+        l_hash ^= l_hash >>> 32;
+
+        return hex( l_hash );
+    }
+
+    @Nonnull
+    @Override
+    protected IBaseStringHash copy()
+    {
+        final CXXHash64 l_copy = new CXXHash64();
+        System.arraycopy( m_buffer, 0, l_copy.m_buffer, 0, STRIPE );
+        System.arraycopy( m_accumulator, 0, l_copy.m_accumulator, 0, m_accumulator.length );
+        l_copy.m_buffered = m_buffered;
+        l_copy.m_length = m_length;
+        return l_copy;
+    }
+
+    @Override
+    protected void clear()
+    {
+        m_accumulator[0] = PRIME1 + PRIME2;
+        m_accumulator[1] = PRIME2;
+        m_accumulator[2] = 0;
+        m_accumulator[3] = -PRIME1;
+        m_buffered = 0;
+        m_length = 0;
+    }
+
+    /**
+     * accumulator round
+     *
+     * @param p_accumulator accumulator
+     * @param p_lane input lane
+     * @return new accumulator
+     */
+    private static long round( final long p_accumulator, final long p_lane )
+    {
+        return Long.rotateLeft( p_accumulator + p_lane * PRIME2, 31 ) * PRIME1;
+    }
+
+    /**
+     * reads an unsigned little-endian int
+     *
+     * @param p_buffer buffer
+     * @param p_offset offset
+     * @return value
+     */
+    private static long intvalue( @Nonnull final byte[] p_buffer, final int p_offset )
+    {
+        return ( p_buffer[p_offset] & 0xffL ) | ( p_buffer[p_offset + 1] & 0xffL ) << 8
+               | ( p_buffer[p_offset + 2] & 0xffL ) << 16 | ( p_buffer[p_offset + 3] & 0xffL ) << 24;
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string.hash;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Locale;
+
+
+/**
+ * hash algorithms.
+ * The non-cryptographic hashes create a small state for each
+ * string, the cryptographic hash reuses a message digest of
+ * each thread
+ */
+public enum EHash
+{
+    XXHASH64
+    {
+        @Nonnull
+        @Override
+        public IStringHash create()
+        {
+            return new CXXHash64();
+        }
+    },
+    MURMUR3
+    {
+        @Nonnull
+        @Override
+        public IStringHash create()
+        {
+            return new CMurmur3();
+        }
+    },
+    SHA256
+    {
+        @Nonnull
+        @Override
+        public IStringHash create()
+        {
+            return new CSHA256();
+        }
+
+        @Nonnull
+        @Override
+        public String apply( @Nonnull final String p_value )
+        {
+            final CSHA256 l_hash = DIGEST.get();
+            l_hash.update( p_value );
+            return l_hash.finish();
+        }
+    };
+
+    /**
+     * message digest of each thread
+     */
+    private static final ThreadLocal<CSHA256> DIGEST = ThreadLocal.withInitial( CSHA256::new );
+
+    /**
+     * creates an incremental hash
+     *
+     * @return hash
+     */
+    @Nonnull
+    public abstract IStringHash create();
+
+    /**
+     * hashes a string
+     *
+     * @param p_value string
+     * @return hexadecimal hash
+     */
+    @Nonnull
+    public String apply( @Nonnull final String p_value )
+    {
+        return this.create().update( p_value ).value();
+    }
+
+    /**
+     * checks if a hash exists
+     *
+     * @param p_value hash name
+     * @return existing flag
+     */
+    public static boolean exist( @Nonnull final String p_value )
+    {
+        final String l_value = p_value.trim().toUpperCase( Locale.ROOT ).replace( "-", "" );
+        return Arrays.stream( EHash.values() ).anyMatch( i -> i.name().equals( l_value ) );
+    }
+
+    /**
+     * returns a hash by name
+     *
+     * @param p_value hash name
+     * @return hash
+     */
+    @Nonnull
+    public static EHash of( @Nonnull final String p_value )
+    {
+        return EHash.valueOf( p_value.trim().toUpperCase( Locale.ROOT ).replace( "-", "" ) );
+    }
+
+}
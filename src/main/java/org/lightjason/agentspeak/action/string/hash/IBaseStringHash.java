@@ -0,0 +1,221 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string.hash;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * base hash with utf-8 encoding.
+ * The characters are encoded directly into the hash without
+ * an intermediate byte array, ascii characters are passed as they
+ * are, a high surrogate at the end of an update is kept until the
+ * next update, so a surrogate pair can be split over updates
+ */
+public abstract class IBaseStringHash implements IStringHash
+{
+    /**
+     * hexadecimal digits
+     */
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+    /**
+     * replacement byte of malformed surrogates
+     */
+    private static final byte REPLACEMENT = '?';
+    /**
+     * pending high surrogate or zero
+     */
+    private char m_surrogate;
+
+    @Nonnull
+    @Override
+    public final synchronized IStringHash update( @Nonnull final CharSequence p_value )
+    {
+        for ( int i = 0; i < p_value.length(); i++ )
+        {
+            final char l_char = p_value.charAt( i );
+
+            if ( m_surrogate != 0 )
+            {
+                final char l_high = m_surrogate;
+                m_surrogate = 0;
+                if ( Character.isLowSurrogate( l_char ) )
+                {
+                    this.codepoint( Character.toCodePoint( l_high, l_char ) );
+                    continue;
+                }
+                this.update( REPLACEMENT );
+            }
+
+            if ( l_char < 0x80 )
+                this.update( (byte) l_char );
+            else if ( l_char < 0x800 )
+            {
+                this.update( (byte) ( 0xc0 | l_char >> 6 ) );
+                this.update( (byte) ( 0x80 | l_char & 0x3f ) );
+            }
+            else if ( Character.isHighSurrogate( l_char ) )
+                m_surrogate = l_char;
+            else if ( Character.isLowSurrogate( l_char ) )
+                this.update( REPLACEMENT );
+            else
+            {
+                this.update( (byte) ( 0xe0 | l_char >> 12 ) );
+                this.update( (byte) ( 0x80 | l_char >> 6 & 0x3f ) );
+                this.update( (byte) ( 0x80 | l_char & 0x3f ) );
+            }
+        }
+
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public final synchronized String value()
+    {
+        if ( m_surrogate == 0 )
+            return this.hash();
+
+        // a pending surrogate is malformed at the end, so a copy hashes the replacement
+        final IBaseStringHash l_copy = this.copy();
+        l_copy.update( REPLACEMENT );
+        return l_copy.hash();
+    }
+
+    @Nonnull
+    @Override
+    public final synchronized IStringHash reset()
+    {
+        m_surrogate = 0;
+        this.clear();
+        return this;
+    }
+
+    /**
+     * hashes a pending surrogate as replacement byte,
+     * so the bytes are equal to the utf-8 bytes of the
+     * concatenated string
+     */
+    protected final synchronized void complete()
+    {
+        if ( m_surrogate == 0 )
+            return;
+
+        m_surrogate = 0;
+        this.update( REPLACEMENT );
+    }
+
+    /**
+     * adds a byte
+     *
+     * @param p_value byte
+     */
+    protected abstract void update( final byte p_value );
+
+    /**
+     * returns the hash of the bytes without changing the state
+     *
+     * @return hexadecimal hash
+     */
+    @Nonnull
+    protected abstract String hash();
+
+    /**
+     * returns a copy of the byte state
+     *
+     * @return copy
+     */
+    @Nonnull
+    protected abstract IBaseStringHash copy();
+
+    /**
+     * resets the hash state
+     */
+    protected abstract void clear();
+
+    /**
+     * creates the hexadecimal string of values
+     *
+     * @param p_values values
+     * @return hexadecimal string with 16 digits for each value
+     */
+    @Nonnull
+    protected static String hex( @Nonnull final long... p_values )
+    {
+        final char[] l_result = new char[16 * p_values.length];
+        for ( int i = 0; i < p_values.length; i++ )
+            for ( int j = 0; j < 16; j++ )
+                l_result[16 * i + j] = DIGITS[(int) ( p_values[i] >>> ( 60 - 4 * j ) ) & 0xf];
+
+        return new String( l_result );
+    }
+
+    /**
+     * creates the hexadecimal string of bytes
+     *
+     * @param p_values bytes
+     * @return hexadecimal string with two digits for each byte
+     */
+    @Nonnull
+    protected static String hex( @Nonnull final byte[] p_values )
+    {
+        final char[] l_result = new char[2 * p_values.length];
+        for ( int i = 0; i < p_values.length; i++ )
+        {
+            l_result[2 * i] = DIGITS[p_values[i] >> 4 & 0xf];
+            l_result[2 * i + 1] = DIGITS[p_values[i] & 0xf];
+        }
+
+        return new String( l_result );
+    }
+
+    /**
+     * reads a little-endian long
+     *
+     * @param p_buffer buffer
+     * @param p_offset offset
+     * @return value
+     */
+    protected static long longvalue( @Nonnull final byte[] p_buffer, final int p_offset )
+    {
+        long l_value = 0;
+        for ( int i = 7; i >= 0; i-- )
+            l_value = l_value << 8 | p_buffer[p_offset + i] & 0xffL;
+
+        return l_value;
+    }
+
+    /**
+     * adds a supplementary code point
+     *
+     * @param p_codepoint code point
+     */
+    private void codepoint( final int p_codepoint )
+    {
+        this.update( (byte) ( 0xf0 | p_codepoint >> 18 ) );
+        this.update( (byte) ( 0x80 | p_codepoint >> 12 & 0x3f ) );
+        this.update( (byte) ( 0x80 | p_codepoint >> 6 & 0x3f ) );
+        this.update( (byte) ( 0x80 | p_codepoint & 0x3f ) );
+    }
+
+}
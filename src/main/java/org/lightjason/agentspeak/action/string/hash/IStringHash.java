@@ -0,0 +1,63 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string.hash;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * incremental hash of strings.
+ * The strings are hashed as utf-8 bytes, so
+ * the hash of all updates is equal to the hash
+ * of the concatenated string
+ */
+public interface IStringHash
+{
+
+    /**
+     * adds a string to the hash
+     *
+     * @param p_value string
+     * @return self reference
+     */
+    @Nonnull
+    IStringHash update( @Nonnull final CharSequence p_value );
+
+    /**
+     * returns the hash of all updates,
+     * the state is not changed
+     *
+     * @return hexadecimal hash
+     */
+    @Nonnull
+    String value();
+
+    /**
+     * resets the state
+     *
+     * @return self reference
+     */
+    @Nonnull
+    IStringHash reset();
+
+}
@@ -0,0 +1,260 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.index;
+
+import org.lightjason.agentspeak.action.string.CLevenshteinEngine;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+
+/**
+ * burkhard-keller tree over strings.
+ * The tree uses the weighted levenshtein distance as metric,
+ * so insert and delete weight must be equal, child nodes are stored
+ * by their distance to the parent, which allows to prune all subtrees
+ * outside of the search radius
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/BK-tree"></a>
+ */
+public final class CBKTree
+{
+    /**
+     * entry order by distance and string
+     */
+    private static final Comparator<Map.Entry<String, Double>> ORDER = Map.Entry.<String, Double>comparingByValue()
+                                                                                .thenComparing( Map.Entry.comparingByKey() );
+    /**
+     * distance engine
+     */
+    private final CLevenshteinEngine m_engine;
+    /**
+     * lock
+     */
+    private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
+    /**
+     * root node
+     */
+    private CNode m_root;
+    /**
+     * number of strings
+     */
+    private int m_size;
+
+    /**
+     * ctor
+     *
+     * @param p_engine distance engine
+     */
+    public CBKTree( @Nonnull final CLevenshteinEngine p_engine )
+    {
+        m_engine = p_engine;
+    }
+
+    /**
+     * number of strings
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        m_lock.readLock().lock();
+        try
+        {
+            return m_size;
+        }
+        finally
+        {
+            m_lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * adds a string
+     *
+     * @param p_value string
+     * @return true if the string has been added, false if it exists
+     */
+    public boolean add( @Nonnull final String p_value )
+    {
+        m_lock.writeLock().lock();
+        try
+        {
+            if ( m_root == null )
+            {
+                m_root = new CNode( p_value );
+                m_size++;
+                return true;
+            }
+
+            CNode l_node = m_root;
+            while ( true )
+            {
+                final double l_distance = m_engine.distance( p_value, l_node.m_value );
+                if ( l_distance == 0 )
+                    return false;
+
+                final CNode l_child = l_node.m_children.get( l_distance );
+                if ( l_child == null )
+                {
+                    l_node.m_children.put( l_distance, new CNode( p_value ) );
+                    m_size++;
+                    return true;
+                }
+
+                l_node = l_child;
+            }
+        }
+        finally
+        {
+            m_lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * returns all strings within a radius
+     *
+     * @param p_query query string
+     * @param p_radius maximum distance
+     * @return list of strings and distances, ordered by distance
+     */
+    @Nonnull
+    public List<Map.Entry<String, Double>> radius( @Nonnull final String p_query, final double p_radius )
+    {
+        final List<Map.Entry<String, Double>> l_result = new ArrayList<>();
+
+        m_lock.readLock().lock();
+        try
+        {
+            if ( m_root == null )
+                return l_result;
+
+            final Deque<CNode> l_stack = new ArrayDeque<>();
+            l_stack.push( m_root );
+            while ( !l_stack.isEmpty() )
+            {
+                final CNode l_node = l_stack.pop();
+                final double l_distance = m_engine.distance( p_query, l_node.m_value );
+                if ( l_distance <= p_radius )
+                    l_result.add( new AbstractMap.SimpleImmutableEntry<>( l_node.m_value, l_distance ) );
+
+                l_node.m_children.subMap( l_distance - p_radius, true, l_distance + p_radius, true ).values().forEach( l_stack::push );
+            }
+        }
+        finally
+        {
+            m_lock.readLock().unlock();
+        }
+
+        l_result.sort( ORDER );
+        return l_result;
+    }
+
+    /**
+     * returns the nearest strings
+     *
+     * @param p_query query string
+     * @param p_count number of strings
+     * @return list of strings and distances, ordered by distance
+     */
+    @Nonnull
+    public List<Map.Entry<String, Double>> nearest( @Nonnull final String p_query, @Nonnegative final int p_count )
+    {
+        // max-heap of the current best entries, the head defines the search radius
+        final PriorityQueue<Map.Entry<String, Double>> l_best = new PriorityQueue<>( Math.max( 1, p_count ), ORDER.reversed() );
+
+        m_lock.readLock().lock();
+        try
+        {
+            if ( m_root == null || p_count < 1 )
+                return new ArrayList<>();
+
+            final Deque<CNode> l_stack = new ArrayDeque<>();
+            l_stack.push( m_root );
+            while ( !l_stack.isEmpty() )
+            {
+                final CNode l_node = l_stack.pop();
+                final double l_distance = m_engine.distance( p_query, l_node.m_value );
+
+                if ( l_best.size() < p_count )
+                    l_best.add( new AbstractMap.SimpleImmutableEntry<>( l_node.m_value, l_distance ) );
+                else if ( ORDER.compare( new AbstractMap.SimpleImmutableEntry<>( l_node.m_value, l_distance ), l_best.peek() ) < 0 )
+                {
+                    l_best.poll();
+                    l_best.add( new AbstractMap.SimpleImmutableEntry<>( l_node.m_value, l_distance ) );
+                }
+
+                final double l_radius = l_best.size() < p_count ? Double.POSITIVE_INFINITY : l_best.peek().getValue();
+                l_node.m_children.subMap( l_distance - l_radius, true, l_distance + l_radius, true ).values().forEach( l_stack::push );
+            }
+        }
+        finally
+        {
+            m_lock.readLock().unlock();
+        }
+
+        return l_best.stream().sorted( ORDER ).collect( Collectors.toList() );
+    }
+
+
+    /**
+     * tree node
+     */
+    private static final class CNode
+    {
+        /**
+         * string value
+         */
+        private final String m_value;
+        /**
+         * child nodes by distance
+         */
+        private final NavigableMap<Double, CNode> m_children = new TreeMap<>();
+
+        /**
+         * ctor
+         *
+         * @param p_value string value
+         */
+        CNode( @Nonnull final String p_value )
+        {
+            m_value = p_value;
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.index;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.CArgument;
+import org.lightjason.agentspeak.action.string.CLevenshteinEngine;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action to create a string index for nearest search.
+ * The action creates a bk-tree index over the levenshtein distance, numerical
+ * arguments are used for the inserting, replace and delete weight, inserting
+ * and delete weight must be equal and all weights must be greater than zero,
+ * string arguments are added to the index
+ *
+ * {@code I = .string/index/create( 1, 1.5, 1, "start", "end", "starting" );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/BK-tree"></a>
+ */
+public final class CCreate extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1840381462839471957L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CCreate.class, "string", "index" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 0;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        // the bk-tree needs a metric, so maximum distance is not used and missing weights are set to one
+        final double[] l_arguments = CCommon.flatten( p_argument )
+                                            .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                                            .map( ITerm::<Number>raw )
+                                            .mapToDouble( Number::doubleValue )
+                                            .limit( 3 )
+                                            .toArray();
+        final double[] l_weights = { 1, 1, 1 };
+        System.arraycopy( l_arguments, 0, l_weights, 0, l_arguments.length );
+
+        if ( l_weights[0] != l_weights[2] || Arrays.stream( l_weights ).anyMatch( i -> i <= 0 ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "weightsnotmetric", l_weights[0], l_weights[1], l_weights[2] )
+            );
+
+        final CBKTree l_index = new CBKTree( CLevenshteinEngine.of( l_weights ) );
+        CCommon.flatten( p_argument )
+               .filter( i -> CArgument.isstring( i ) )
+               .map( CArgument::string )
+               .forEach( l_index::add );
+
+        p_return.add( CRawTerm.of( l_index ) );
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.index;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.CArgument;
+import org.lightjason.agentspeak.action.string.CParallel;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to get the nearest strings of an index.
+ * The first argument is the index, the second the number
+ * of strings, for each other argument a list with the nearest
+ * strings, ordered by distance, is returned
+ *
+ * {@code [A|B] = .string/index/nearest( I, 3, "foo", "bar" );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/BK-tree"></a>
+ */
+public final class CNearest extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6233850187720915264L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CNearest.class, "string", "index" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 3;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final CBKTree l_index = p_argument.get( 0 ).raw();
+        final int l_count = p_argument.get( 1 ).<Number>raw().intValue();
+
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).skip( 2 ).map( CArgument::string ),
+            i -> l_index.nearest( i, l_count ).stream().map( Map.Entry::getKey ).collect( Collectors.toList() ),
+            p_return
+        );
+
+        return Stream.empty();
+    }
+
+}
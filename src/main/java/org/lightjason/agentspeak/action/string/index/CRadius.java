@@ -0,0 +1,97 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.index;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.CArgument;
+import org.lightjason.agentspeak.action.string.CParallel;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to get all strings of an index within a radius.
+ * The first argument is the index, the second the maximum
+ * distance, for each other argument a list with the strings
+ * within the distance, ordered by distance, is returned
+ *
+ * {@code [A|B] = .string/index/radius( I, 2, "foo", "bar" );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/BK-tree"></a>
+ */
+public final class CRadius extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4620978913372140318L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CRadius.class, "string", "index" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 3;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final CBKTree l_index = p_argument.get( 0 ).raw();
+        final double l_radius = p_argument.get( 1 ).<Number>raw().doubleValue();
+
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).skip( 2 ).map( CArgument::string ),
+            i -> l_index.radius( i, l_radius ).stream().map( Map.Entry::getKey ).collect( Collectors.toList() ),
+            p_return
+        );
+
+        return Stream.empty();
+    }
+
+}
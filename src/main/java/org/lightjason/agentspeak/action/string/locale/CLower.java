@@ -0,0 +1,95 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.locale;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.CArgument;
+import org.lightjason.agentspeak.action.string.CInternPool;
+import org.lightjason.agentspeak.action.string.CParallel;
+import org.lightjason.agentspeak.action.string.CTransform;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+
+/**
+ * action to create a lower-case string with a locale.
+ * The first argument is the language tag of the locale, root or
+ * an empty tag defines the root locale, all other arguments
+ * will change to a lower-case string of the locale
+ *
+ * {@code [A|B] = .string/locale/lower( "tr", "TITLE", "ISTANBUL" );}
+ */
+public final class CLower extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4473518962087240339L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CLower.class, "string", "locale" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final Locale l_locale = CTransform.locale( p_argument.get( 0 ).raw() );
+
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).skip( 1 ).map( CArgument::string ),
+            i -> CInternPool.apply( CTransform.lower( i, l_locale ) ),
+            p_return
+        );
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.metric;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * execution metric of a single action
+ */
+public final class CActionMetric
+{
+    /**
+     * number of invocations
+     */
+    private final LongAdder m_invocations = new LongAdder();
+    /**
+     * number of arguments
+     */
+    private final LongAdder m_arguments = new LongAdder();
+    /**
+     * number of return values
+     */
+    private final LongAdder m_results = new LongAdder();
+    /**
+     * number of exceptions
+     */
+    private final LongAdder m_exceptions = new LongAdder();
+    /**
+     * latency in nanoseconds
+     */
+    private final CHistogram m_latency = new CHistogram();
+
+    /**
+     * records an execution
+     *
+     * @param p_arguments number of arguments
+     * @param p_results number of return values
+     * @param p_nanoseconds execution time
+     * @param p_exception exception flag
+     */
+    public void record( @Nonnegative final int p_arguments, @Nonnegative final int p_results, @Nonnegative final long p_nanoseconds,
+                        final boolean p_exception )
+    {
+        m_invocations.increment();
+        m_arguments.add( p_arguments );
+        m_results.add( p_results );
+        m_latency.add( p_nanoseconds );
+        if ( p_exception )
+            m_exceptions.increment();
+    }
+
+    /**
+     * number of invocations
+     *
+     * @return invocations
+     */
+    @Nonnegative
+    public long invocations()
+    {
+        return m_invocations.sum();
+    }
+
+    /**
+     * number of arguments
+     *
+     * @return arguments
+     */
+    @Nonnegative
+    public long arguments()
+    {
+        return m_arguments.sum();
+    }
+
+    /**
+     * number of return values
+     *
+     * @return results
+     */
+    @Nonnegative
+    public long results()
+    {
+        return m_results.sum();
+    }
+
+    /**
+     * number of exceptions
+     *
+     * @return exceptions
+     */
+    @Nonnegative
+    public long exceptions()
+    {
+        return m_exceptions.sum();
+    }
+
+    /**
+     * latency histogram in nanoseconds
+     *
+     * @return histogram
+     */
+    @Nonnull
+    public CHistogram latency()
+    {
+        return m_latency;
+    }
+
+    /**
+     * resets all values
+     */
+    public void clear()
+    {
+        m_invocations.reset();
+        m_arguments.reset();
+        m_results.reset();
+        m_exceptions.reset();
+        m_latency.clear();
+    }
+
+    /**
+     * creates a snapshot of the values
+     *
+     * @return unmodifiable map with values
+     */
+    @Nonnull
+    public Map<String, Number> snapshot()
+    {
+        final Map<String, Number> l_snapshot = new LinkedHashMap<>();
+
+        l_snapshot.put( "invocations", this.invocations() );
+        l_snapshot.put( "arguments", this.arguments() );
+        l_snapshot.put( "results", this.results() );
+        l_snapshot.put( "exceptions", this.exceptions() );
+        l_snapshot.put( "latency.min", m_latency.minimum() );
+        l_snapshot.put( "latency.mean", m_latency.mean() );
+        l_snapshot.put( "latency.p50", m_latency.percentile( 50 ) );
+        l_snapshot.put( "latency.p90", m_latency.percentile( 90 ) );
+        l_snapshot.put( "latency.p99", m_latency.percentile( 99 ) );
+        l_snapshot.put( "latency.p999", m_latency.percentile( 99.9 ) );
+        l_snapshot.put( "latency.max", m_latency.maximum() );
+
+        return Collections.unmodifiableMap( l_snapshot );
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.metric;
+
+import javax.annotation.Nonnegative;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * lock-free histogram with log-linear buckets.
+ * Each power of two is splitted into linear sub-buckets,
+ * so the relative error of each value is lower than 1 / 16,
+ * the structure is similar to a hdr-histogram
+ *
+ * @see <a href="http://hdrhistogram.org/"></a>
+ */
+public final class CHistogram
+{
+    /**
+     * bits of the sub-buckets
+     */
+    private static final int SUBBUCKETBITS = 5;
+    /**
+     * number of sub-buckets
+     */
+    private static final int SUBBUCKETCOUNT = 1 << SUBBUCKETBITS;
+    /**
+     * half number of sub-buckets
+     */
+    private static final int SUBBUCKETHALF = SUBBUCKETCOUNT >> 1;
+    /**
+     * number of buckets, so all positive long values can be stored
+     */
+    private static final int BUCKETCOUNT = Long.SIZE - SUBBUCKETBITS + 1;
+    /**
+     * bucket counter
+     */
+    private final AtomicLongArray m_counts = new AtomicLongArray( BUCKETCOUNT * SUBBUCKETHALF + SUBBUCKETHALF );
+    /**
+     * number of values
+     */
+    private final LongAdder m_count = new LongAdder();
+    /**
+     * sum of values
+     */
+    private final LongAdder m_sum = new LongAdder();
+    /**
+     * minimum value
+     */
+    private final LongAccumulator m_minimum = new LongAccumulator( Math::min, Long.MAX_VALUE );
+    /**
+     * maximum value
+     */
+    private final LongAccumulator m_maximum = new LongAccumulator( Math::max, 0 );
+
+    /**
+     * adds a value
+     *
+     * @param p_value non-negative value
+     */
+    public void add( @Nonnegative final long p_value )
+    {
+        final long l_value = Math.max( 0, p_value );
+
+        m_counts.incrementAndGet( index( l_value ) );
+        m_count.increment();
+        m_sum.add( l_value );
+        m_minimum.accumulate( l_value );
+        m_maximum.accumulate( l_value );
+    }
+
+    /**
+     * number of values
+     *
+     * @return count
+     */
+    @Nonnegative
+    public long count()
+    {
+        return m_count.sum();
+    }
+
+    /**
+     * minimum value
+     *
+     * @return minimum or zero if no value exists
+     */
+    @Nonnegative
+    public long minimum()
+    {
+        return this.count() == 0 ? 0 : m_minimum.get();
+    }
+
+    /**
+     * maximum value
+     *
+     * @return maximum
+     */
+    @Nonnegative
+    public long maximum()
+    {
+        return m_maximum.get();
+    }
+
+    /**
+     * mean value
+     *
+     * @return mean or zero if no value exists
+     */
+    public double mean()
+    {
+        final long l_count = this.count();
+        return l_count == 0 ? 0 : (double) m_sum.sum() / l_count;
+    }
+
+    /**
+     * returns a percentile
+     *
+     * @param p_percentile percentile within [0, 100]
+     * @return highest value of the bucket, which contains the percentile
+     */
+    @Nonnegative
+    public long percentile( final double p_percentile )
+    {
+        long l_total = 0;
+        for ( int i = 0; i < m_counts.length(); i++ )
+            l_total += m_counts.get( i );
+
+        if ( l_total == 0 )
+            return 0;
+
+        final long l_rank = Math.max( 1, (long) Math.ceil( Math.min( 100, Math.max( 0, p_percentile ) ) / 100.0 * l_total ) );
+        long l_sum = 0;
+        for ( int i = 0; i < m_counts.length(); i++ )
+        {
+            l_sum += m_counts.get( i );
+            if ( l_sum >= l_rank )
+                return Math.min( upper( i ), this.maximum() );
+        }
+
+        return this.maximum();
+    }
+
+    /**
+     * removes all values
+     */
+    public void clear()
+    {
+        for ( int i = 0; i < m_counts.length(); i++ )
+            m_counts.set( i, 0 );
+        m_count.reset();
+        m_sum.reset();
+        m_minimum.reset();
+        m_maximum.reset();
+    }
+
+    /**
+     * returns the counter index of a value
+     *
+     * @param p_value value
+     * @return index
+     */
+    private static int index( final long p_value )
+    {
+        final int l_bucket = Math.max( 0, Long.SIZE - Long.numberOfLeadingZeros( p_value ) - SUBBUCKETBITS );
+        return l_bucket * SUBBUCKETHALF + (int) ( p_value >>> l_bucket );
+    }
+
+    /**
+     * returns the highest value of a counter index
+     *
+     * @param p_index index
+     * @return value
+     */
+    private static long upper( final int p_index )
+    {
+        final int l_bucket = Math.max( 0, p_index / SUBBUCKETHALF - 1 );
+        final long l_subbucket = p_index - l_bucket * SUBBUCKETHALF;
+        return ( ( l_subbucket + 1 ) << l_bucket ) - 1;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.metric;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+
+/**
+ * opt-in execution metrics of actions.
+ * Actions are instrumented by wrapping, the wrapped action records
+ * invocations, arguments, return values, exceptions and latency for
+ * each action name, not wrapped actions are executed without overhead
+ *
+ * {@code final Set<IAction> l_actions = CMetric.instrument( Stream.of( new CUpper(), new CLower() ) ).collect( Collectors.toSet() );}
+ */
+public final class CMetric
+{
+    /**
+     * metrics by action name
+     */
+    private static final Map<String, CActionMetric> METRICS = new ConcurrentHashMap<>();
+
+    /**
+     * ctor
+     */
+    private CMetric()
+    {
+    }
+
+    /**
+     * instruments an action
+     *
+     * @param p_action action
+     * @return instrumented action
+     */
+    @Nonnull
+    public static IAction instrument( @Nonnull final IAction p_action )
+    {
+        return p_action instanceof CInstrumentedAction ? p_action : new CInstrumentedAction( p_action );
+    }
+
+    /**
+     * instruments actions
+     *
+     * @param p_actions action stream
+     * @return instrumented action stream
+     */
+    @Nonnull
+    public static Stream<IAction> instrument( @Nonnull final Stream<IAction> p_actions )
+    {
+        return p_actions.map( CMetric::instrument );
+    }
+
+    /**
+     * returns the metric of an action
+     *
+     * @param p_name action name
+     * @return metric or null if the action is not executed
+     */
+    @Nullable
+    public static CActionMetric metric( @Nonnull final String p_name )
+    {
+        return METRICS.get( p_name );
+    }
+
+    /**
+     * creates a snapshot of all metrics
+     *
+     * @return unmodifiable map of action name and values
+     */
+    @Nonnull
+    public static Map<String, Map<String, Number>> snapshot()
+    {
+        final Map<String, Map<String, Number>> l_snapshot = new TreeMap<>();
+        METRICS.forEach( ( i, j ) -> l_snapshot.put( i, j.snapshot() ) );
+        return Collections.unmodifiableMap( l_snapshot );
+    }
+
+    /**
+     * resets all metrics
+     */
+    public static void clear()
+    {
+        METRICS.values().forEach( CActionMetric::clear );
+    }
+
+
+    /**
+     * action wrapper for recording
+     */
+    private static final class CInstrumentedAction extends IBaseAction
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -4962553413856806157L;
+        /**
+         * wrapped action
+         */
+        private final IAction m_action;
+        /**
+         * action name
+         */
+        private final String m_name;
+
+        /**
+         * ctor
+         *
+         * @param p_action action
+         */
+        CInstrumentedAction( @Nonnull final IAction p_action )
+        {
+            m_action = p_action;
+            m_name = p_action.name().toString();
+        }
+
+        @Nonnull
+        @Override
+        public IPath name()
+        {
+            return m_action.name();
+        }
+
+        @Nonnegative
+        @Override
+        public int minimalArgumentNumber()
+        {
+            return m_action.minimalArgumentNumber();
+        }
+
+        @Nonnull
+        @Override
+        public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                               @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+        )
+        {
+            final CActionMetric l_metric = METRICS.computeIfAbsent( m_name, i -> new CActionMetric() );
+            final int l_results = p_return.size();
+            final long l_start = System.nanoTime();
+
+            try
+            {
+                final Stream<IFuzzyValue<?>> l_result = m_action.execute( p_parallel, p_context, p_argument, p_return );
+                l_metric.record( p_argument.size(), p_return.size() - l_results, System.nanoTime() - l_start, false );
+                return l_result;
+            }
+            catch ( final RuntimeException l_exception )
+            {
+                l_metric.record( p_argument.size(), 0, System.nanoTime() - l_start, true );
+                throw l_exception;
+            }
+        }
+    }
+
+}
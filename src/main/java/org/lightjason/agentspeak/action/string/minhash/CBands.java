@@ -0,0 +1,106 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.minhash;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.CParallel;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to create locality-sensitive hashing keys of minhash signatures.
+ * The first argument is the number of bands, for each other signature
+ * argument a list with a key for each band is returned, signatures
+ * with a common key are candidates for similar strings, the number
+ * of bands must divide the signature size
+ *
+ * {@code [A|B] = .string/minhash/bands( 16, S1, S2 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/MinHash"></a>
+ */
+public final class CBands extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 7712985316449305234L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CBands.class, "string", "minhash" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final int l_bands = p_argument.get( 0 ).<Number>raw().intValue();
+        final List<CMinHash> l_signatures = CCommon.flatten( p_argument ).skip( 1 ).map( ITerm::<CMinHash>raw ).collect( Collectors.toList() );
+
+        final Optional<CMinHash> l_indivisible = l_signatures.stream().filter( i -> !i.divides( l_bands ) ).findFirst();
+        if ( l_indivisible.isPresent() )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "indivisiblebands", l_bands, l_indivisible.get().size() )
+            );
+
+        CParallel.apply(
+            p_parallel,
+            l_signatures.stream(),
+            i -> Arrays.stream( i.bands( l_bands ) ).boxed().collect( Collectors.toList() ),
+            p_return
+        );
+
+        return Stream.empty();
+    }
+
+}
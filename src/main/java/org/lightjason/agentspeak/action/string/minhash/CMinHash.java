@@ -0,0 +1,213 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.minhash;
+
+import org.lightjason.agentspeak.action.string.CShingle;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+
+/**
+ * minhash signature of a string.
+ * The signature contains for each hash function the minimum
+ * hash of the character shingles, the ratio of equal values
+ * of two signatures estimates the jaccard similarity, so
+ * signatures can be stored and compared in signature length
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/MinHash"></a>
+ */
+public final class CMinHash
+{
+    /**
+     * default number of hash functions
+     */
+    public static final int DEFAULTSIZE = 128;
+    /**
+     * golden ratio to create the hash function seeds
+     */
+    private static final long GOLDEN = 0x9e3779b97f4a7c15L;
+    /**
+     * signature values
+     */
+    private final long[] m_values;
+    /**
+     * shingle size
+     */
+    private final int m_shingle;
+
+    /**
+     * ctor
+     *
+     * @param p_values signature values
+     * @param p_shingle shingle size
+     */
+    private CMinHash( @Nonnull final long[] p_values, @Nonnegative final int p_shingle )
+    {
+        m_values = p_values;
+        m_shingle = p_shingle;
+    }
+
+    /**
+     * creates a signature
+     *
+     * @param p_value string
+     * @param p_size number of hash functions
+     * @param p_shingle shingle size in code points
+     * @return signature
+     */
+    @Nonnull
+    public static CMinHash of( @Nonnull final String p_value, @Nonnegative final int p_size, @Nonnegative final int p_shingle )
+    {
+        final long[] l_shingles = CShingle.set( p_value, p_shingle );
+        final long[] l_values = new long[Math.max( 1, p_size )];
+
+        for ( int i = 0; i < l_values.length; i++ )
+        {
+            final long l_seed = CShingle.mix( ( i + 1 ) * GOLDEN );
+            long l_minimum = Long.MAX_VALUE;
+            for ( final long l_shingle : l_shingles )
+                l_minimum = Math.min( l_minimum, CShingle.mix( l_shingle ^ l_seed ) );
+            l_values[i] = l_minimum;
+        }
+
+        return new CMinHash( l_values, p_shingle );
+    }
+
+    /**
+     * number of hash functions
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_values.length;
+    }
+
+    /**
+     * returns the shingle size
+     *
+     * @return shingle size
+     */
+    @Nonnegative
+    public int shingle()
+    {
+        return m_shingle;
+    }
+
+    /**
+     * checks if two signatures are created with the same parameters
+     *
+     * @param p_signature other signature
+     * @return compatible flag
+     */
+    public boolean compatible( @Nonnull final CMinHash p_signature )
+    {
+        return m_values.length == p_signature.m_values.length && m_shingle == p_signature.m_shingle;
+    }
+
+    /**
+     * checks if the number of bands divides the signature
+     * into bands of equal size
+     *
+     * @param p_bands number of bands
+     * @return divides flag
+     */
+    public boolean divides( final int p_bands )
+    {
+        return p_bands > 0 && m_values.length % p_bands == 0;
+    }
+
+    /**
+     * estimates the jaccard similarity
+     *
+     * @param p_signature other signature
+     * @return ratio of equal values
+     */
+    public double similarity( @Nonnull final CMinHash p_signature )
+    {
+        if ( !this.compatible( p_signature ) )
+            throw new IllegalArgumentException( "signatures are created with different parameters" );
+
+        int l_equal = 0;
+        for ( int i = 0; i < m_values.length; i++ )
+            if ( m_values[i] == p_signature.m_values[i] )
+                l_equal++;
+
+        return l_equal / (double) m_values.length;
+    }
+
+    /**
+     * creates the locality-sensitive hashing keys, the signature is
+     * split into bands and each band is hashed to a key, so
+     * similar signatures share a key with high probability,
+     * the number of bands must divide the signature size
+     *
+     * @param p_bands number of bands
+     * @return key of each band
+     */
+    @Nonnull
+    public long[] bands( @Nonnegative final int p_bands )
+    {
+        if ( !this.divides( p_bands ) )
+            throw new IllegalArgumentException( "number of bands [" + p_bands + "] does not divide the signature size [" + m_values.length + "]" );
+
+        final int l_bands = p_bands;
+        final int l_rows = m_values.length / l_bands;
+
+        final long[] l_keys = new long[l_bands];
+        for ( int i = 0; i < l_bands; i++ )
+        {
+            long l_key = CShingle.mix( i + 1 );
+            for ( int j = i * l_rows; j < ( i + 1 ) * l_rows; j++ )
+                l_key = CShingle.mix( l_key ^ m_values[j] );
+            l_keys[i] = l_key;
+        }
+
+        return l_keys;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Arrays.hashCode( m_values );
+    }
+
+    @Override
+    public boolean equals( final Object p_object )
+    {
+        return p_object instanceof CMinHash
+               && m_shingle == ( (CMinHash) p_object ).m_shingle
+               && Arrays.equals( m_values, ( (CMinHash) p_object ).m_values );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "minhash(" + m_values.length + ", " + m_shingle + ")";
+    }
+
+}
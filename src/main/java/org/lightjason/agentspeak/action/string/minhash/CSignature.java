@@ -0,0 +1,102 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.minhash;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.CArgument;
+import org.lightjason.agentspeak.action.string.CParallel;
+import org.lightjason.agentspeak.action.string.CShingle;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action to create minhash signatures.
+ * Each string argument is transformed to a signature, the first
+ * optional numerical argument defines the number of hash functions
+ * (default 128), the second the shingle size (default 3)
+ *
+ * {@code [A|B] = .string/minhash/signature( "first text", "second text" );}
+ * {@code [A|B] = .string/minhash/signature( 64, 2, "first text", "second text" );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/MinHash"></a>
+ */
+public final class CSignature extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2086539874610362315L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSignature.class, "string", "minhash" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final int[] l_parameter = CCommon.flatten( p_argument )
+                                         .filter( i -> CCommon.isssignableto( i, Number.class ) )
+                                         .mapToInt( i -> i.<Number>raw().intValue() )
+                                         .limit( 2 )
+                                         .toArray();
+        final int l_size = l_parameter.length > 0 ? l_parameter[0] : CMinHash.DEFAULTSIZE;
+        final int l_shingle = l_parameter.length > 1 ? l_parameter[1] : CShingle.DEFAULTSIZE;
+
+        CParallel.apply(
+            p_parallel,
+            CCommon.flatten( p_argument ).filter( i -> CArgument.isstring( i ) ).map( CArgument::string ),
+            i -> CMinHash.of( i, l_size, l_shingle ),
+            p_return
+        );
+
+        return Stream.empty();
+    }
+
+}
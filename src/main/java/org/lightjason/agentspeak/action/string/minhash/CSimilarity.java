@@ -0,0 +1,104 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.minhash;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.CParallel;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to estimate the jaccard similarity of minhash signatures.
+ * The action returns the similarity between the first signature
+ * argument and each other signature, all signatures must be created
+ * with the same parameters
+ *
+ * {@code [A|B] = .string/minhash/similarity( S1, S2, S3 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/MinHash"></a>
+ */
+public final class CSimilarity extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4530915528420347792L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSimilarity.class, "string", "minhash" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<CMinHash> l_signatures = CCommon.flatten( p_argument ).map( ITerm::<CMinHash>raw ).collect( Collectors.toList() );
+        final CMinHash l_signature = l_signatures.get( 0 );
+
+        final Optional<CMinHash> l_different = l_signatures.stream().filter( i -> !l_signature.compatible( i ) ).findFirst();
+        if ( l_different.isPresent() )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "differentparameters", l_signature, l_different.get() )
+            );
+
+        CParallel.apply(
+            p_parallel,
+            l_signatures.stream().skip( 1 ),
+            l_signature::similarity,
+            p_return
+        );
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.string.ncd;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.CArgument;
+import org.lightjason.agentspeak.action.string.CNCDDictionary;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to create a compression dictionary.
+ * The action trains a deflate dictionary of all string
+ * arguments, which are samples of the compared strings,
+ * the dictionary can be used as compression of the
+ * normalized-compression-distance action
+ *
+ * {@code D = .string/ncd/dictionary( "foo bar", "bar foo", "foo baz" );}
+ * {@code [A|B] = .string/ncd( D, "foo bar", "foo baz", "other" );}
+ */
+public final class CDictionary extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5528014380163470719L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CDictionary.class, "string", "ncd" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        p_return.add(
+            CRawTerm.of(
+                CNCDDictionary.of(
+                    CCommon.flatten( p_argument )
+                           .filter( i -> CArgument.isstring( i ) )
+                           .map( CArgument::string )
+                           .collect( Collectors.toList() )
+                )
+            )
+        );
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.string.regex;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.string.CArgument;
+import org.lightjason.agentspeak.action.string.CParallel;
+import org.lightjason.agentspeak.action.string.CPatternCache;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * action to get the groups of a regular expression.
+ * The first argument is a pattern handle or a regular expression,
+ * the action returns for each other argument a list with the groups
+ * of the first match, a group without a value is an empty string,
+ * if the string does not match, the list is empty
+ *
+ * {@code [A|B] = .string/regex/groups( "(\\w+)@(\\w+)", "agent@host", "none" );}
+ */
+public final class CGroups extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1567839020476615829L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CGroups.class, "string", "regex" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        try
+        {
+            final Pattern l_pattern = CPatternCache.handle( p_argument.get( 0 ).raw() );
+
+            CParallel.apply(
+                p_parallel,
+                CCommon.flatten( p_argument ).skip( 1 ).map( CArgument::string ),
+                i -> groups( l_pattern.matcher( i ) ),
+                p_return
+            );
+        }
+        catch ( final IllegalArgumentException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * returns the groups of the first match
+     *
+     * @param p_matcher matcher
+     * @return list with groups
+     */
+    @Nonnull
+    private static List<String> groups( @Nonnull final Matcher p_matcher )
+    {
+        if ( !p_matcher.find() )
+            return Collections.emptyList();
+
+        return IntStream.rangeClosed( 1, p_matcher.groupCount() )
+                        .mapToObj( p_matcher::group )
+                        .map( i -> Objects.isNull( i ) ? "" : i )
+                        .collect( Collectors.toList() );
+    }
+
+}
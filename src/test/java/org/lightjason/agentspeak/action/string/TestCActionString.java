@@ -24,24 +24,57 @@
 package org.lightjason.agentspeak.action.string;
 
 import com.codepoetics.protonpack.StreamUtils;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.MurmurHash3;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.string.base64.CDecode;
+import org.lightjason.agentspeak.action.string.base64.CDecodeRaw;
+import org.lightjason.agentspeak.action.string.base64.CEncode;
+import org.lightjason.agentspeak.action.string.base64.EBase64;
+import org.lightjason.agentspeak.action.string.hash.CUpdate;
+import org.lightjason.agentspeak.action.string.hash.CValue;
+import org.lightjason.agentspeak.action.string.hash.EHash;
+import org.lightjason.agentspeak.action.string.hash.IStringHash;
+import org.lightjason.agentspeak.action.string.index.CAdd;
+import org.lightjason.agentspeak.action.string.index.CBKTree;
+import org.lightjason.agentspeak.action.string.index.CCreate;
+import org.lightjason.agentspeak.action.string.index.CNearest;
+import org.lightjason.agentspeak.action.string.index.CRadius;
+import org.lightjason.agentspeak.action.string.matrix.CGet;
+import org.lightjason.agentspeak.action.string.matrix.CRow;
+import org.lightjason.agentspeak.action.string.metric.CActionMetric;
+import org.lightjason.agentspeak.action.string.metric.CHistogram;
+import org.lightjason.agentspeak.action.string.metric.CMetric;
+import org.lightjason.agentspeak.action.string.minhash.CMinHash;
+import org.lightjason.agentspeak.action.string.ncd.CDictionary;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -100,6 +133,57 @@ public final class TestCActionString extends IBaseTest
     }
 
 
+    /**
+     * test base64 alphabets with strings and bytes
+     */
+    @Test
+    public void base64alphabet()
+    {
+        final String l_large = IntStream.range( 0, 5000 ).mapToObj( i -> "abc\u00e4\u00f6\uD83D\uDE00\u4e2d?" ).collect( Collectors.joining() );
+        final byte[] l_bytes = { (byte) 0xfb, (byte) 0xff, (byte) 0xfe, 0, 1 };
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue(
+            execute(
+                new CEncode(),
+                false,
+                Stream.of( "url", l_large, l_bytes, ByteBuffer.wrap( l_bytes ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertEquals( Base64.getUrlEncoder().encodeToString( l_large.getBytes( StandardCharsets.UTF_8 ) ), l_return.get( 0 ).raw() );
+        Assertions.assertEquals( "-__-AAE=", l_return.get( 1 ).raw() );
+        Assertions.assertEquals( "-__-AAE=", l_return.get( 2 ).raw() );
+        Assertions.assertEquals( Base64.getMimeEncoder().encodeToString( l_large.getBytes( StandardCharsets.UTF_8 ) ), EBase64.MIME.encode( l_large ) );
+
+        final List<ITerm> l_decode = new ArrayList<>();
+        Assertions.assertTrue( execute( new CDecode(), false, Stream.of( CRawTerm.of( "url" ), l_return.get( 0 ) ).collect( Collectors.toList() ), l_decode ) );
+        Assertions.assertTrue( execute( new CDecodeRaw(), false, Stream.of( CRawTerm.of( "url" ), l_return.get( 1 ) ).collect( Collectors.toList() ), l_decode ) );
+
+        Assertions.assertEquals( l_large, l_decode.get( 0 ).raw() );
+        Assertions.assertEquals( ByteBuffer.wrap( l_bytes ), l_decode.get( 1 ).raw() );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> new CDecode().execute( false, IContext.EMPTYPLAN, Stream.of( "basic", "-__-AAE=" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                                              new ArrayList<>() )
+        );
+    }
+
+
+    /**
+     * test base64 actions with unknown alphabet
+     */
+    @Test
+    public void base64alphabeterror()
+    {
+        Stream.of( new CEncode(), new CDecode(), new CDecodeRaw() ).forEach( i -> Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> i.execute( false, IContext.EMPTYPLAN, Stream.of( "klingon", "foo" ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>() )
+        ) );
+    }
+
+
     /**
      * test base64 decode with errors
      */
@@ -177,6 +261,122 @@ public final class TestCActionString extends IBaseTest
     }
 
 
+    /**
+     * test rope concat
+     */
+    @Test
+    public void rope()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue( execute( new org.lightjason.agentspeak.action.string.rope.CCreate(), false, Stream.of( "log:" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return ) );
+        for ( int i = 0; i < 100; i++ )
+            Assertions.assertTrue( execute( new CConcat(), false, Stream.of( l_return.get( l_return.size() - 1 ).<Object>raw(), " ", i ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return ) );
+
+        // branch of an older rope
+        Assertions.assertTrue( execute( new CConcat(), false, Stream.of( l_return.get( 1 ).<Object>raw(), "x" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return ) );
+        Assertions.assertTrue(
+            execute(
+                new org.lightjason.agentspeak.action.string.rope.CToString(),
+                false,
+                Stream.of( l_return.get( 1 ).<CRope>raw(), l_return.get( 100 ).<CRope>raw(), l_return.get( 101 ).<CRope>raw() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertEquals( "log: 0", l_return.get( 102 ).raw() );
+        Assertions.assertEquals( "log:" + IntStream.range( 0, 100 ).mapToObj( i -> " " + i ).collect( Collectors.joining() ), l_return.get( 103 ).raw() );
+        Assertions.assertEquals( "log: 0x", l_return.get( 104 ).raw() );
+        Assertions.assertEquals( 'l', l_return.get( 100 ).<CRope>raw().charAt( 0 ) );
+        Assertions.assertEquals( "0", l_return.get( 1 ).<CRope>raw().subSequence( 5, 6 ) );
+
+        // ropes are read as strings by the other actions
+        final List<ITerm> l_rope = Stream.of( l_return.get( 1 ).<Object>raw(), "Abc" ).map( CRawTerm::of ).collect( Collectors.toList() );
+        final List<ITerm> l_result = new ArrayList<>();
+        Assertions.assertTrue( execute( new CUpper(), false, l_rope, l_result ) );
+        Assertions.assertTrue( execute( new CSize(), false, l_rope, l_result ) );
+        Assertions.assertArrayEquals( new Object[]{"LOG: 0", "ABC", 6, 3}, l_result.stream().map( ITerm::raw ).toArray() );
+    }
+
+    /**
+     * test contains any
+     */
+    @Test
+    public void containsany()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue(
+            execute(
+                new CContainsAny(),
+                false,
+                Stream.of( "this is a long string", "long", "short", "", "string" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertArrayEquals(
+            Stream.of( true, false, true, true ).toArray(),
+            l_return.stream().map( ITerm::<Boolean>raw ).toArray()
+        );
+    }
+
+    /**
+     * test match all
+     */
+    @Test
+    public void matchall()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue(
+            execute(
+                new CMatchAll(),
+                false,
+                Stream.of( "abababa", "aba", "b", "c", "" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertEquals( List.of( 0, 2, 4 ), l_return.get( 0 ).raw() );
+        Assertions.assertEquals( List.of( 1, 3, 5 ), l_return.get( 1 ).raw() );
+        Assertions.assertEquals( Collections.emptyList(), l_return.get( 2 ).raw() );
+        Assertions.assertEquals( IntStream.rangeClosed( 0, 7 ).boxed().collect( Collectors.toList() ), l_return.get( 3 ).raw() );
+    }
+
+    /**
+     * test aho-corasick automaton against indexOf
+     */
+    @Test
+    public void ahocorasick()
+    {
+        final Random l_random = new Random( 42 );
+
+        for ( int n = 0; n < 200; n++ )
+        {
+            final String l_haystack = l_random.ints( 200, 'a', 'd' ).collect( StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append ).toString();
+            final List<String> l_needles = IntStream.range( 0, 8 )
+                                                    .mapToObj( i -> l_random.ints( 1 + l_random.nextInt( 5 ), 'a', 'e' )
+                                                                            .collect( StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append )
+                                                                            .toString() )
+                                                    .collect( Collectors.toList() );
+
+            final CAhoCorasick l_automaton = CAhoCorasick.of( l_needles );
+            final boolean[] l_contains = l_automaton.contains( l_haystack );
+            final List<List<Integer>> l_positions = l_automaton.positions( l_haystack );
+
+            for ( int i = 0; i < l_needles.size(); i++ )
+            {
+                final List<Integer> l_expected = new ArrayList<>();
+                for ( int j = l_haystack.indexOf( l_needles.get( i ) ); j > -1; j = l_haystack.indexOf( l_needles.get( i ), j + 1 ) )
+                    l_expected.add( j );
+
+                Assertions.assertEquals( l_haystack.contains( l_needles.get( i ) ), l_contains[i] );
+                Assertions.assertEquals( l_expected, l_positions.get( i ) );
+            }
+        }
+    }
+
     /**
      * test lower
      *
@@ -292,6 +492,32 @@ public final class TestCActionString extends IBaseTest
     }
 
 
+    /**
+     * test random bulk
+     */
+    @Test
+    public void randombulk()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue( execute( new CRandomBulk(), false, Stream.of( "ab\uD83D\uDE00", 100, 8, 42 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return ) );
+        Assertions.assertTrue( execute( new CRandomBulk(), false, Stream.of( "ab\uD83D\uDE00", 100, 8, 42 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return ) );
+        Assertions.assertTrue( execute( new CRandomBulk(), true, Stream.of( "xyz", 1000, 4 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return ) );
+
+        Assertions.assertEquals( l_return.get( 0 ).<List<String>>raw(), l_return.get( 1 ).<List<String>>raw() );
+        Assertions.assertEquals( 100, l_return.get( 0 ).<List<String>>raw().size() );
+        Assertions.assertTrue( l_return.get( 0 ).<List<String>>raw().stream().allMatch( i -> i.codePointCount( 0, i.length() ) == 8 ) );
+        Assertions.assertTrue( l_return.get( 0 ).<List<String>>raw().stream().anyMatch( i -> i.contains( "\uD83D\uDE00" ) ) );
+
+        Assertions.assertEquals( 1000, l_return.get( 2 ).<List<String>>raw().size() );
+        Assertions.assertTrue( l_return.get( 2 ).<List<String>>raw().stream().allMatch( i -> i.matches( "[xyz]{4}" ) ) );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CRandomBulk().execute( false, IContext.EMPTYPLAN, Stream.of( "", 1, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return )
+        );
+    }
+
     /**
      * test upper
      *
@@ -320,6 +546,197 @@ public final class TestCActionString extends IBaseTest
     }
 
 
+    /**
+     * test parallel execution keeps the input order
+     */
+    @Test
+    public void parallel()
+    {
+        final List<String> l_input = IntStream.range( 0, 4 * CParallel.DEFAULTTHRESHOLD )
+                                              .mapToObj( i -> "item" + i )
+                                              .collect( Collectors.toList() );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue(
+            execute(
+                new CUpper(),
+                true,
+                l_input.stream().map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertArrayEquals(
+            l_input.stream().map( i -> i.toUpperCase( Locale.ROOT ) ).toArray(),
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+    }
+
+
+    /**
+     * test execution metric
+     */
+    @Test
+    public void metric()
+    {
+        final IAction l_upper = CMetric.instrument( new CUpper() );
+        final IAction l_levenshtein = CMetric.instrument( new CLevenshtein() );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertSame( l_upper, CMetric.instrument( l_upper ) );
+        Assertions.assertEquals( new CUpper().name().toString(), l_upper.name().toString() );
+        IntStream.range( 0, 10 ).forEach( i -> l_upper.execute( false, IContext.EMPTYPLAN, Stream.of( "a", "b" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return ) );
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> l_levenshtein.execute( false, IContext.EMPTYPLAN, Collections.emptyList(), Collections.emptyList() ) );
+
+        final CActionMetric l_metric = CMetric.metric( l_upper.name().toString() );
+        Assertions.assertNotNull( l_metric );
+        Assertions.assertTrue( l_metric.invocations() >= 10 );
+        Assertions.assertTrue( l_metric.arguments() >= 20 );
+        Assertions.assertTrue( l_metric.results() >= 20 );
+        Assertions.assertTrue( l_metric.latency().percentile( 50 ) <= l_metric.latency().maximum() );
+        Assertions.assertTrue( CMetric.metric( l_levenshtein.name().toString() ).exceptions() >= 1 );
+        Assertions.assertTrue( CMetric.snapshot().containsKey( l_upper.name().toString() ) );
+    }
+
+    /**
+     * test histogram percentiles
+     */
+    @Test
+    public void histogram()
+    {
+        final CHistogram l_histogram = new CHistogram();
+        IntStream.rangeClosed( 1, 10000 ).forEach( l_histogram::add );
+
+        Assertions.assertEquals( 10000, l_histogram.count() );
+        Assertions.assertEquals( 1, l_histogram.minimum() );
+        Assertions.assertEquals( 10000, l_histogram.maximum() );
+        Assertions.assertEquals( 5000.5, l_histogram.mean(), 0 );
+        Assertions.assertEquals( 5000, l_histogram.percentile( 50 ), 5000 / 16.0 );
+        Assertions.assertEquals( 9900, l_histogram.percentile( 99 ), 9900 / 16.0 );
+        Assertions.assertEquals( 10000, l_histogram.percentile( 100 ) );
+    }
+
+
+    /**
+     * test transformation fast paths against the string methods
+     */
+    @Test
+    public void transform()
+    {
+        final Random l_random = new Random( 7 );
+        final String l_alphabet = "aZm09_-. ßäÖİi\uD83D\uDE00";
+
+        for ( int n = 0; n < 500; n++ )
+        {
+            final String l_string = l_random.ints( l_random.nextInt( 12 ), 0, l_alphabet.length() - 1 )
+                                            .mapToObj( i -> l_alphabet.substring( i, i + 1 ) )
+                                            .filter( i -> !Character.isSurrogate( i.charAt( 0 ) ) )
+                                            .collect( Collectors.joining() );
+            final String l_ascii = l_string.replaceAll( "[^\\p{ASCII}]", "" );
+
+            Stream.of( Locale.ROOT, Locale.GERMAN, Locale.forLanguageTag( "tr" ) ).forEach( i ->
+            {
+                Assertions.assertEquals( l_string.toUpperCase( i ), CTransform.upper( l_string, i ) );
+                Assertions.assertEquals( l_string.toLowerCase( i ), CTransform.lower( l_string, i ) );
+                Assertions.assertEquals( l_ascii.toUpperCase( i ), CTransform.upper( l_ascii, i ) );
+                Assertions.assertEquals( l_ascii.toLowerCase( i ), CTransform.lower( l_ascii, i ) );
+            } );
+            Assertions.assertEquals( new StringBuilder( l_string ).reverse().toString(), CTransform.reverse( l_string ) );
+        }
+
+        Assertions.assertEquals( "a\uD83D\uDE00b", CTransform.reverse( "b\uD83D\uDE00a" ) );
+        Assertions.assertEquals( "\r\nbe\u0301a", CTransform.graphemereverse( "ae\u0301b\r\n" ) );
+        Assertions.assertEquals( "cba", CTransform.graphemereverse( "abc" ) );
+        Assertions.assertSame( Locale.ROOT, CTransform.locale( "root" ) );
+        Assertions.assertEquals( Locale.forLanguageTag( "de-DE" ), CTransform.locale( "de_DE" ) );
+    }
+
+    /**
+     * test upper and lower with locale and grapheme reverse
+     */
+    @Test
+    public void locale()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue(
+            execute(
+                new org.lightjason.agentspeak.action.string.locale.CUpper(),
+                false,
+                Stream.of( "root", "title", "istanbul" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new org.lightjason.agentspeak.action.string.locale.CLower(),
+                false,
+                Stream.of( "tr", "TITLE" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new CGraphemeReverse(),
+                false,
+                Stream.of( "Cafe\u0301" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertArrayEquals(
+            Stream.of( "TITLE", "ISTANBUL", "t\u0131tle", "e\u0301faC" ).toArray(),
+            l_return.stream().map( ITerm::<String>raw ).toArray()
+        );
+    }
+
+    /**
+     * test intern pool
+     */
+    @Test
+    public void intern()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        CInternPool.clear();
+        Assertions.assertFalse( CInternPool.enabled() );
+        CInternPool.enabled( true );
+        try
+        {
+            Assertions.assertTrue(
+                execute(
+                    new CLower(),
+                    false,
+                    Stream.of( "TOKEN", "Token", "other" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                    l_return
+                )
+            );
+            Assertions.assertTrue(
+                execute(
+                    new CIntern(),
+                    false,
+                    Stream.of( new String( "other".toCharArray() ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                    l_return
+                )
+            );
+        }
+        finally
+        {
+            CInternPool.enabled( false );
+        }
+
+        Assertions.assertEquals( "token", l_return.get( 0 ).raw() );
+        Assertions.assertSame( l_return.get( 0 ).<String>raw(), l_return.get( 1 ).<String>raw() );
+        Assertions.assertSame( l_return.get( 2 ).<String>raw(), l_return.get( 3 ).<String>raw() );
+        Assertions.assertEquals( 4L, CInternPool.snapshot().get( "requests" ) );
+        Assertions.assertEquals( 2L, CInternPool.snapshot().get( "deduplications" ) );
+        Assertions.assertEquals( 0.5, CInternPool.ratio() );
+
+        CInternPool.clear();
+        Assertions.assertEquals( 0, CInternPool.size() );
+    }
+
     /**
      * test starts-with
      */
@@ -368,6 +785,74 @@ public final class TestCActionString extends IBaseTest
     }
 
 
+    /**
+     * test longest prefix and suffix
+     */
+    @Test
+    public void longest()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue(
+            execute(
+                new CLongestPrefix(),
+                false,
+                Stream.of( "sensor/room/temperature", "sensor", "sensor/room", "actor" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new CLongestSuffix(),
+                false,
+                Stream.of( "archive.tar.gz", ".gz", ".tar.gz", ".zip" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new CLongestPrefix(),
+                false,
+                Stream.of( "sensor", "actor" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertArrayEquals(
+            Stream.of( "sensor/room", ".tar.gz", "" ).toArray(),
+            l_return.stream().map( ITerm::<String>raw ).toArray()
+        );
+    }
+
+    /**
+     * test prefix trie against starts-with and ends-with
+     */
+    @Test
+    public void prefixtrie()
+    {
+        final Random l_random = new Random( 23 );
+        final String l_string = "abcabcab";
+        final List<String> l_prefixes = IntStream.range( 0, 2 * CPrefixTrie.MINIMALSIZE )
+                                                 .mapToObj( i -> l_random.ints( l_random.nextInt( 4 ), 'a', 'd' )
+                                                                         .collect( StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append )
+                                                                         .toString() )
+                                                 .collect( Collectors.toList() );
+
+        final List<ITerm> l_startswith = new ArrayList<>();
+        final List<ITerm> l_endswith = new ArrayList<>();
+        final List<ITerm> l_arguments = Stream.concat( Stream.of( l_string ), l_prefixes.stream() ).map( CRawTerm::of ).collect( Collectors.toList() );
+
+        Assertions.assertTrue( execute( new CStartsWith(), false, l_arguments, l_startswith ) );
+        Assertions.assertTrue( execute( new CEndsWith(), false, l_arguments, l_endswith ) );
+
+        Assertions.assertArrayEquals( l_prefixes.stream().map( l_string::startsWith ).toArray(), l_startswith.stream().map( ITerm::raw ).toArray() );
+        Assertions.assertArrayEquals( l_prefixes.stream().map( l_string::endsWith ).toArray(), l_endswith.stream().map( ITerm::raw ).toArray() );
+        Assertions.assertEquals(
+            l_prefixes.stream().filter( l_string::startsWith ).mapToInt( String::length ).max().orElse( -1 ),
+            CPrefixTrie.prefix( l_prefixes ).get( CPrefixTrie.prefix( l_prefixes ).longest( l_string ) ).length()
+        );
+    }
+
     /**
      * tets for levenshtein distance error
      */
@@ -409,61 +894,760 @@ public final class TestCActionString extends IBaseTest
 
 
     /**
-     * test normalized compression distance
+     * test levenshtein engine with weights and maximum distance
      */
     @Test
-    public void ncd()
+    public void levenshteinengine()
     {
-        final List<ITerm> l_return = new ArrayList<>();
+        final List<String> l_input = Stream.of( "kitten", "sitting", "singing", "", "kit", "a much longer sentence" ).collect( Collectors.toList() );
+        final CLevenshteinEngine l_engine = new CLevenshteinEngine( 1, 1, 1 );
+
+        l_input.forEach( i -> l_input.forEach( j -> Assertions.assertEquals( CCommon.levenshtein( i, j, 1, 1, 1 ), l_engine.distance( i, j ), 0 ) ) );
+
+        final CLevenshteinEngine l_maximum = new CLevenshteinEngine( 1, 1, 1, 3 );
+        l_input.forEach( i -> l_input.forEach( j -> {
+            final double l_distance = CCommon.levenshtein( i, j, 1, 1, 1 );
+            Assertions.assertEquals( l_distance > 3 ? CLevenshteinEngine.EXCEEDED : l_distance, l_maximum.distance( i, j ), 0 );
+        } ) );
 
+        Assertions.assertEquals( 2, new CLevenshteinEngine( 1, 5, 1 ).distance( "a", "b" ), 0 );
+        Assertions.assertEquals( 3, new CLevenshteinEngine( 3, 1, 1 ).distance( "", "a" ), 0 );
+        Assertions.assertEquals( 3, new CLevenshteinEngine( 1, 1, 3 ).distance( "a", "" ), 0 );
+
+        final List<ITerm> l_return = new ArrayList<>();
         Assertions.assertTrue(
             execute(
-                new CNCD(),
+                new CLevenshtein(),
                 false,
-                Stream.of( "test", "tests", "this a complete other string", "test" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Stream.of( 1, 1, 1, 2, "kitten", "sitting", "kitte" ).map( CRawTerm::of ).collect( Collectors.toList() ),
                 l_return
             )
         );
 
-        Assertions.assertEquals( 3, l_return.size() );
-        Assertions.assertEquals( 0.04878048780487805, l_return.get( 0 ).<Number>raw().doubleValue(), 0.0001 );
-        Assertions.assertEquals( 0.38333333333333336, l_return.get( 1 ).<Number>raw().doubleValue(), 0.0001 );
-        Assertions.assertEquals( 0, l_return.get( 2 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( CLevenshteinEngine.EXCEEDED, l_return.get( 0 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 1, l_return.get( 1 ).<Number>raw().doubleValue(), 0 );
+    }
+
+
+    /**
+     * test jaro-winkler similarity with minimum similarity
+     */
+    @Test
+    public void jarowinkler()
+    {
+        final CJaroWinklerEngine l_engine = new CJaroWinklerEngine( CJaroWinklerEngine.DEFAULTSCALE );
+        Assertions.assertEquals( 0.9611, l_engine.similarity( "martha", "marhta" ), 1e-4 );
+        Assertions.assertEquals( 0.8133, l_engine.similarity( "dixon", "dicksonx" ), 1e-4 );
+        Assertions.assertEquals( 0.84, l_engine.similarity( "dwayne", "duane" ), 1e-4 );
+        Assertions.assertEquals( 1, l_engine.similarity( "", "" ), 0 );
+        Assertions.assertEquals( 0, l_engine.similarity( "abc", "" ), 0 );
+
+        final List<String> l_input = Stream.of( "martha", "marhta", "dixon", "dicksonx", "dwayne", "duane", "", "m", "a much longer sentence" )
+                                           .collect( Collectors.toList() );
+        final CJaroWinklerEngine l_minimum = new CJaroWinklerEngine( CJaroWinklerEngine.DEFAULTSCALE, 0.8 );
+        l_input.forEach( i -> l_input.forEach( j -> {
+            final double l_similarity = l_engine.similarity( i, j );
+            Assertions.assertEquals( l_similarity < 0.8 ? CJaroWinklerEngine.UNREACHED : l_similarity, l_minimum.similarity( i, j ), 0 );
+        } ) );
 
+        final List<ITerm> l_return = new ArrayList<>();
         Assertions.assertTrue(
             execute(
-                new CNCD(),
+                new CJaroWinkler(),
                 false,
-                Stream.of( "GZIP", "test", "tests", "this a complete other string", "test" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Stream.of( 0.1, 0.9, "martha", "marhta", "dwayne" ).map( CRawTerm::of ).collect( Collectors.toList() ),
                 l_return
             )
         );
 
-        Assertions.assertEquals( 6, l_return.size() );
-        Assertions.assertEquals( 0.12, l_return.get( 3 ).<Number>raw().doubleValue(), 0 );
-        Assertions.assertEquals( 0.5833333333333334, l_return.get( 4 ).<Number>raw().doubleValue(),  0.0001 );
-        Assertions.assertEquals( 0, l_return.get( 5 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( 0.9611, l_return.get( 0 ).<Number>raw().doubleValue(), 1e-4 );
+        Assertions.assertEquals( CJaroWinklerEngine.UNREACHED, l_return.get( 1 ).<Number>raw().doubleValue(), 0 );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CJaroWinkler().execute( false, IContext.EMPTYPLAN, Stream.of( 0.5, "martha", "marhta" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                              Collections.emptyList() )
+        );
     }
 
 
     /**
-     * test normalized compression distance error
+     * test damerau-levenshtein distance with maximum distance
      */
     @Test
-    public void ncderror()
+    public void damerau()
     {
-        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
-                                 () -> new CNCD().execute(
-                                    false,
-                                    IContext.EMPTYPLAN,
-                                    Collections.emptyList(),
-                                    Collections.emptyList()
-                                )
-        );
-    }
+        final CDamerauEngine l_engine = new CDamerauEngine( 1, 1, 1, 1 );
+        Assertions.assertEquals( 1, l_engine.distance( "start", "tsart" ), 0 );
+        Assertions.assertEquals( 3, l_engine.distance( "ca", "abc" ), 0 );
+        Assertions.assertEquals( 3, l_engine.distance( "abcdef", "badcfe" ), 0 );
+        Assertions.assertEquals( 3, l_engine.distance( "kitten", "sitting" ), 0 );
+
+        final List<String> l_input = Stream.of( "kitten", "sitting", "ktiten", "", "kit", "tik", "a much longer sentence" ).collect( Collectors.toList() );
+        final CLevenshteinEngine l_levenshtein = new CLevenshteinEngine( 1, 1, 1 );
+        l_input.forEach( i -> l_input.forEach( j -> Assertions.assertTrue( l_engine.distance( i, j ) <= l_levenshtein.distance( i, j ) ) ) );
+
+        final CDamerauEngine l_maximum = new CDamerauEngine( 1, 1, 1, 1, 2 );
+        l_input.forEach( i -> l_input.forEach( j -> {
+            final double l_distance = l_engine.distance( i, j );
+            Assertions.assertEquals( l_distance > 2 ? CDamerauEngine.EXCEEDED : l_distance, l_maximum.distance( i, j ), 0 );
+        } ) );
 
-    /**
-     * test replace
+        final List<ITerm> l_return = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new CDamerau(),
+                false,
+                Stream.of( 1, 1, 1, 1, 2, "kitten", "ktiten", "sitting" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( 1, l_return.get( 0 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( CDamerauEngine.EXCEEDED, l_return.get( 1 ).<Number>raw().doubleValue(), 0 );
+    }
+
+
+    /**
+     * test distance matrix against pairwise distances
+     */
+    @Test
+    public void distancematrix()
+    {
+        final Random l_random = new Random( 17 );
+        final List<String> l_input = IntStream.range( 0, 150 )
+                                              .mapToObj( i -> l_random.ints( 1 + l_random.nextInt( 12 ), 'a', 'e' )
+                                                                      .collect( StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append )
+                                                                      .toString() )
+                                              .collect( Collectors.toList() );
+
+        final CLevenshteinEngine l_engine = new CLevenshteinEngine( 1, 1, 1 );
+        final CTriangularMatrix l_matrix = CTriangularMatrix.of( true, l_input, i -> j -> l_engine.distance( i, j ) );
+
+        Assertions.assertEquals( l_input.size(), l_matrix.size() );
+        IntStream.range( 0, l_input.size() ).forEach( i -> IntStream.range( 0, l_input.size() ).forEach(
+            j -> Assertions.assertEquals( CCommon.levenshtein( l_input.get( i ), l_input.get( j ), 1, 1, 1 ), l_matrix.get( i, j ), 0 )
+        ) );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new CDistanceMatrix(),
+                false,
+                Stream.of( "damerau", "start", "tsart", "starting" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertEquals( 3, l_return.get( 0 ).<CTriangularMatrix>raw().size() );
+
+        final List<ITerm> l_distance = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new CGet(),
+                false,
+                Stream.of( l_return.get( 0 ).<Object>raw(), 0, 1, 2, 0, 1, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_distance
+            )
+        );
+
+        Assertions.assertArrayEquals(
+            new double[]{1, 3, 0},
+            l_distance.stream().mapToDouble( i -> i.<Number>raw().doubleValue() ).toArray()
+        );
+
+        final List<ITerm> l_row = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new CRow(),
+                false,
+                Stream.of( l_return.get( 0 ).<Object>raw(), 2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_row
+            )
+        );
+
+        Assertions.assertEquals( Stream.of( 3.0, 4.0, 0.0 ).collect( Collectors.toList() ), l_row.get( 0 ).raw() );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CGet().execute( false, IContext.EMPTYPLAN, Stream.of( l_return.get( 0 ).<Object>raw(), 0, 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                      Collections.emptyList() )
+        );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CGet().execute( false, IContext.EMPTYPLAN, Stream.of( l_return.get( 0 ).<Object>raw(), 0, 1, 2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                      Collections.emptyList() )
+        );
+
+        final List<ITerm> l_ncd = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new CDistanceMatrix(),
+                false,
+                Stream.of( "gzip", "foo bar", "test foo", "bar foo" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_ncd
+            )
+        );
+
+        Assertions.assertEquals(
+            new CNCDEngine( CCommon.ECompression.GZIP, "foo bar" ).distance( "bar foo" ),
+            l_ncd.get( 0 ).<CTriangularMatrix>raw().get( 2, 0 ),
+            0
+        );
+    }
+
+
+    /**
+     * test similarity join against all pairs
+     */
+    @Test
+    public void similarityjoin()
+    {
+        final Random l_random = new Random( 23 );
+        final List<String> l_input = IntStream.range( 0, 300 )
+                                              .mapToObj( i -> l_random.ints( 2 + l_random.nextInt( 10 ), 'a', 'd' )
+                                                                      .collect( StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append )
+                                                                      .toString() )
+                                              .collect( Collectors.toList() );
+
+        final List<long[]> l_left = l_input.subList( 0, 150 ).stream().map( i -> CShingle.set( i, 2 ) ).collect( Collectors.toList() );
+        final List<long[]> l_right = l_input.subList( 150, 300 ).stream().map( i -> CShingle.set( i, 2 ) ).collect( Collectors.toList() );
+
+        Stream.of( 0.4, 0.7, 1.0 ).forEach( t -> {
+            final CPPJoin l_join = new CPPJoin( t, l_left, l_right );
+            IntStream.range( 0, l_left.size() ).forEach( i -> Assertions.assertEquals(
+                IntStream.range( 0, l_right.size() ).filter( j -> CShingle.jaccard( l_left.get( i ), l_right.get( j ) ) >= t ).boxed().collect( Collectors.toList() ),
+                l_join.join( i ).stream().map( Map.Entry::getKey ).collect( Collectors.toList() )
+            ) );
+        } );
+
+        Stream.of( 0.4, 0.7, 1.0 ).forEach( t -> {
+            final CPPJoin l_join = new CPPJoin( t, l_left, l_left );
+            IntStream.range( 0, l_left.size() ).forEach( i -> Assertions.assertEquals(
+                IntStream.range( i + 1, l_left.size() ).filter( j -> CShingle.jaccard( l_left.get( i ), l_left.get( j ) ) >= t ).boxed().collect( Collectors.toList() ),
+                l_join.join( i, i + 1 ).stream().map( Map.Entry::getKey ).collect( Collectors.toList() )
+            ) );
+        } );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new CSimilarityJoin(),
+                false,
+                Stream.of(
+                    CRawTerm.of( 0.5 ),
+                    CRawTerm.of( 0 ),
+                    CRawTerm.of( Stream.of( "foo bar", "test", "" ).map( CRawTerm::of ).collect( Collectors.toList() ) ),
+                    CRawTerm.of( Stream.of( "bar foo", "tests", "foo bar baz", "" ).map( CRawTerm::of ).collect( Collectors.toList() ) )
+                ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertEquals(
+            Stream.of(
+                Stream.of( 0, 0, 1.0 ).collect( Collectors.toList() ),
+                Stream.of( 0, 2, 2 / 3.0 ).collect( Collectors.toList() ),
+                Stream.of( 2, 3, 1.0 ).collect( Collectors.toList() )
+            ).collect( Collectors.toList() ),
+            l_return.get( 0 ).raw()
+        );
+
+        l_return.clear();
+        Assertions.assertTrue(
+            execute(
+                new CSimilarityJoin(),
+                false,
+                Stream.of(
+                    CRawTerm.of( 0.5 ),
+                    CRawTerm.of( 0 ),
+                    CRawTerm.of( Stream.of( "foo bar", "bar foo", "test", "", "" ).map( CRawTerm::of ).collect( Collectors.toList() ) )
+                ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertEquals(
+            Stream.of(
+                Stream.of( 0, 1, 1.0 ).collect( Collectors.toList() ),
+                Stream.of( 3, 4, 1.0 ).collect( Collectors.toList() )
+            ).collect( Collectors.toList() ),
+            l_return.get( 0 ).raw()
+        );
+    }
+
+
+    /**
+     * test k-medoids and linkage clustering
+     */
+    @Test
+    public void cluster()
+    {
+        final CLevenshteinEngine l_engine = new CLevenshteinEngine( 1, 1, 1 );
+        final Random l_random = new Random( 31 );
+
+        // three groups of mutated strings
+        final List<String> l_centers = Stream.of( "aaaaaaaaaaaa", "mmmmmmmmmmmm", "zzzzzzzzzzzz" ).collect( Collectors.toList() );
+        final List<String> l_input = IntStream.range( 0, 600 )
+                                              .mapToObj( i -> {
+                                                  final char[] l_chars = l_centers.get( i % 3 ).toCharArray();
+                                                  l_chars[l_random.nextInt( l_chars.length )] = (char) ( 'a' + l_random.nextInt( 26 ) );
+                                                  return new String( l_chars );
+                                              } )
+                                              .collect( Collectors.toList() );
+
+        Stream.of( l_input.subList( 0, 90 ), l_input ).forEach( i -> {
+            final int[] l_ids = CClustering.kmedoids( true, i, j -> k -> l_engine.distance( j, k ), 3, new Random( 7 ) );
+            Assertions.assertArrayEquals( IntStream.range( 0, i.size() ).map( j -> j % 3 ).toArray(), l_ids );
+        } );
+
+        Assertions.assertArrayEquals(
+            IntStream.range( 0, l_input.size() ).map( j -> j % 3 ).toArray(),
+            CClustering.linkage( true, l_input, j -> k -> l_engine.distance( j, k ), 2 )
+        );
+
+        Assertions.assertArrayEquals(
+            new int[]{0, 0, 0, 1},
+            CClustering.linkage( false, Stream.of( "aaaa", "aabb", "aaab", "zzzz" ).collect( Collectors.toList() ), j -> k -> l_engine.distance( j, k ), 1 )
+        );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new CCluster(),
+                false,
+                Stream.of( "kmedoids", 2, 42, "damerau", "start", "end", "tsart", "ned" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertArrayEquals( new int[]{0, 1, 0, 1}, l_return.stream().mapToInt( i -> i.<Number>raw().intValue() ).toArray() );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CCluster().execute( false, IContext.EMPTYPLAN, Stream.of( "foo", 2, "start", "end" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                          Collections.emptyList() )
+        );
+    }
+
+
+    /**
+     * test hashes against reference implementations and incremental updates
+     */
+    @Test
+    public void hash() throws NoSuchAlgorithmException
+    {
+        Assertions.assertEquals( "ef46db3751d8e999", EHash.XXHASH64.apply( "" ) );
+        Assertions.assertEquals( "d24ec4f1a98c6e5b", EHash.XXHASH64.apply( "a" ) );
+        Assertions.assertEquals( "44bc2cf5ad770999", EHash.XXHASH64.apply( "abc" ) );
+
+        final MessageDigest l_digest = MessageDigest.getInstance( "SHA-256" );
+        final Random l_random = new Random( 11 );
+        final List<String> l_input = Stream.concat(
+            Stream.of( "", "a", "\u00e4\u20ac\ud83d\ude00", "trailing \ud83d", "\ude00 leading" ),
+            IntStream.range( 0, 200 ).mapToObj( i -> l_random.ints( l_random.nextInt( 100 ), 0, 0x1f680 )
+                                                             .filter( j -> j < Character.MIN_SURROGATE || j > Character.MAX_SURROGATE )
+                                                             .collect( StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append )
+                                                             .toString() )
+        ).collect( Collectors.toList() );
+
+        l_input.forEach( i -> {
+            final byte[] l_bytes = i.getBytes( StandardCharsets.UTF_8 );
+            final long[] l_murmur = MurmurHash3.hash128x64( l_bytes );
+
+            Assertions.assertEquals( String.format( "%016x%016x", l_murmur[0], l_murmur[1] ), EHash.MURMUR3.apply( i ) );
+            Assertions.assertEquals( Hex.encodeHexString( l_digest.digest( l_bytes ) ), EHash.SHA256.apply( i ) );
+
+            // updates with random chunks are equal to the hash of the string
+            Arrays.stream( EHash.values() ).forEach( j -> {
+                final IStringHash l_hash = j.create();
+                for ( int k = 0; k < i.length(); )
+                {
+                    final int l_end = Math.min( i.length(), k + 1 + l_random.nextInt( 40 ) );
+                    l_hash.update( i.substring( k, l_end ) );
+                    k = l_end;
+                }
+                Assertions.assertEquals( j.apply( i ), l_hash.value() );
+                Assertions.assertEquals( j.apply( i ), l_hash.value() );
+                Assertions.assertEquals( j.apply( "" ), l_hash.reset().value() );
+            } );
+        } );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        Assertions.assertTrue( execute( new CHash(), true, Stream.of( "XXHash64", "a", "abc" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return ) );
+        Assertions.assertArrayEquals( new Object[]{"d24ec4f1a98c6e5b", "44bc2cf5ad770999"}, l_return.stream().map( ITerm::raw ).toArray() );
+
+        final List<ITerm> l_handle = new ArrayList<>();
+        Assertions.assertTrue( execute( new org.lightjason.agentspeak.action.string.hash.CCreate(), false, Stream.of( "sha-256" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_handle ) );
+        Assertions.assertTrue(
+            execute( new CUpdate(), false, Stream.of( l_handle.get( 0 ).<Object>raw(), "foo ", CRope.of( Stream.of( "bar" ) ) ).map( CRawTerm::of ).collect( Collectors.toList() ), Collections.emptyList() )
+        );
+
+        final List<ITerm> l_value = new ArrayList<>();
+        Assertions.assertTrue( execute( new CValue(), false, l_handle, l_value ) );
+        Assertions.assertEquals( EHash.SHA256.apply( "foo bar" ), l_value.get( 0 ).raw() );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CHash().execute( false, IContext.EMPTYPLAN, Stream.of( "md5", "a" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return )
+        );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new org.lightjason.agentspeak.action.string.hash.CCreate().execute(
+                false,
+                IContext.EMPTYPLAN,
+                Stream.of( "sha256", "md5" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_handle
+            )
+        );
+    }
+
+
+    /**
+     * test string index against linear search
+     */
+    @Test
+    public void index()
+    {
+        final List<String> l_input = Stream.of( "kitten", "sitting", "singing", "mitten", "kit", "sitter", "fitting", "knitting", "bitten" )
+                                           .collect( Collectors.toList() );
+        final List<ITerm> l_index = new ArrayList<>();
+
+        Assertions.assertTrue(
+            execute(
+                new CCreate(),
+                false,
+                l_input.stream().map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_index
+            )
+        );
+        Assertions.assertTrue( execute( new CAdd(), false, Stream.of( l_index.get( 0 ), CRawTerm.of( "kitten" ) ).collect( Collectors.toList() ), l_index ) );
+        Assertions.assertEquals( l_input.size(), l_index.get( 0 ).<CBKTree>raw().size() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new CNearest(),
+                false,
+                Stream.of( l_index.get( 0 ), CRawTerm.of( 3 ), CRawTerm.of( "sittin" ) ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new CRadius(),
+                false,
+                Stream.of( l_index.get( 0 ), CRawTerm.of( 2 ), CRawTerm.of( "kitte" ) ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertEquals(
+            l_input.stream()
+                   .sorted( Comparator.<String>comparingDouble( i -> CCommon.levenshtein( "sittin", i, 1, 1, 1 ) ).thenComparing( Comparator.naturalOrder() ) )
+                   .limit( 3 )
+                   .collect( Collectors.toList() ),
+            l_return.get( 0 ).raw()
+        );
+        Assertions.assertEquals(
+            l_input.stream()
+                   .filter( i -> CCommon.levenshtein( "kitte", i, 1, 1, 1 ) <= 2 )
+                   .sorted( Comparator.<String>comparingDouble( i -> CCommon.levenshtein( "kitte", i, 1, 1, 1 ) ).thenComparing( Comparator.naturalOrder() ) )
+                   .collect( Collectors.toList() ),
+            l_return.get( 1 ).raw()
+        );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> new CCreate().execute( false, IContext.EMPTYPLAN, Stream.of( 1, 1, 2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                                              new ArrayList<>() )
+        );
+    }
+
+
+    /**
+     * test jaccard and cosine similarity
+     */
+    @Test
+    public void shinglesimilarity()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue(
+            execute(
+                new CJaccard(),
+                false,
+                Stream.of( 2, "abcd", "abcd", "abxy", "wxyz", "" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new CCosine(),
+                false,
+                Stream.of( 2, "aaab", "aaab", "ab", "xyz" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        // jaccard of {ab, bc, cd} with {ab, bx, xy}, cosine of (aa: 2, ab: 1) with (ab: 1)
+        Assertions.assertArrayEquals(
+            new double[]{1, 0.2, 0, 0, 1, 1 / Math.sqrt( 5 ), 0},
+            l_return.stream().map( ITerm::<Double>raw ).mapToDouble( i -> i ).toArray(),
+            1e-9
+        );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CJaccard().execute( false, IContext.EMPTYPLAN, Stream.of( "a" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return )
+        );
+    }
+
+    /**
+     * test minhash signature, similarity and bands
+     */
+    @Test
+    public void minhash()
+    {
+        final List<ITerm> l_signature = new ArrayList<>();
+        final String l_text = "the quick brown fox jumps over the lazy dog";
+
+        Assertions.assertTrue(
+            execute(
+                new org.lightjason.agentspeak.action.string.minhash.CSignature(),
+                false,
+                Stream.of( 256, 3, l_text, l_text.replace( "lazy", "idle" ), "completely different content" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_signature
+            )
+        );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new org.lightjason.agentspeak.action.string.minhash.CSimilarity(),
+                false,
+                l_signature,
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new org.lightjason.agentspeak.action.string.minhash.CBands(),
+                false,
+                Stream.concat( Stream.of( CRawTerm.of( 32 ) ), l_signature.stream() ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        final double l_jaccard = CShingle.jaccard( CShingle.set( l_text, 3 ), CShingle.set( l_text.replace( "lazy", "idle" ), 3 ) );
+        Assertions.assertEquals( l_jaccard, l_return.get( 0 ).<Double>raw(), 0.1 );
+        Assertions.assertTrue( l_return.get( 1 ).<Double>raw() < 0.1 );
+
+        Assertions.assertEquals( 32, l_return.get( 2 ).<List<Long>>raw().size() );
+        Assertions.assertTrue( l_return.get( 3 ).<List<Long>>raw().stream().anyMatch( l_return.get( 2 ).<List<Long>>raw()::contains ) );
+        Assertions.assertTrue( l_return.get( 4 ).<List<Long>>raw().stream().noneMatch( l_return.get( 2 ).<List<Long>>raw()::contains ) );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new org.lightjason.agentspeak.action.string.minhash.CSimilarity().execute(
+                false,
+                IContext.EMPTYPLAN,
+                Stream.of( CMinHash.of( "a", 16, 3 ), CMinHash.of( "a", 32, 3 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new org.lightjason.agentspeak.action.string.minhash.CBands().execute(
+                false,
+                IContext.EMPTYPLAN,
+                Stream.of( 7, CMinHash.of( "a", 16, 3 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+    }
+
+    /**
+     * test phonetic and normalization keys
+     */
+    @Test
+    public void key()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Stream.of(
+            Stream.of( "soundex", "Robert", "Rupert", "Rübin", "" ),
+            Stream.of( "metaphone", "Knight", "Night", "Straße" ),
+            Stream.of( "doublemetaphone", "Schmidt", "Smith" ),
+            Stream.of( "doublemetaphonealternate", "Schmidt", "Smith" ),
+            Stream.of( "nfkc", "ﬁ①" ),
+            Stream.of( "accentfold", "Crème Brûlée" ),
+            Stream.of( "casefold", "Straße", "ABC" ),
+            Stream.of( "normalize", "Crème Brûlée", "CREME BRULEE" )
+        ).forEach( i -> Assertions.assertTrue( execute( new CKey(), false, i.map( CRawTerm::of ).collect( Collectors.toList() ), l_return ) ) );
+
+        Assertions.assertArrayEquals(
+            Stream.of(
+                "R163", "R163", "R150", "",
+                "NT", "NT", "STRS",
+                "XMT", "SM0",
+                "SMT", "XMT",
+                "fi1",
+                "Creme Brulee",
+                "strasse", "abc",
+                "creme brulee", "creme brulee"
+            ).toArray(),
+            l_return.stream().map( ITerm::<String>raw ).toArray()
+        );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CKey().execute( false, IContext.EMPTYPLAN, Stream.of( "klingon", "Robert" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return )
+        );
+    }
+
+    /**
+     * test normalized compression distance
+     */
+    @Test
+    public void ncd()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue(
+            execute(
+                new CNCD(),
+                false,
+                Stream.of( "test", "tests", "this a complete other string", "test" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertEquals( 0.04878048780487805, l_return.get( 0 ).<Number>raw().doubleValue(), 0.0001 );
+        Assertions.assertEquals( 0.38333333333333336, l_return.get( 1 ).<Number>raw().doubleValue(), 0.0001 );
+        Assertions.assertEquals( 0, l_return.get( 2 ).<Number>raw().doubleValue(), 0 );
+
+        Assertions.assertTrue(
+            execute(
+                new CNCD(),
+                false,
+                Stream.of( "GZIP", "test", "tests", "this a complete other string", "test" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertEquals( 6, l_return.size() );
+        Assertions.assertEquals( 0.12, l_return.get( 3 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 0.5833333333333334, l_return.get( 4 ).<Number>raw().doubleValue(),  0.0001 );
+        Assertions.assertEquals( 0, l_return.get( 5 ).<Number>raw().doubleValue(), 0 );
+    }
+
+
+    /**
+     * test normalized compression distance engine
+     */
+    @Test
+    public void ncdengine()
+    {
+        final List<String> l_input = Stream.of( "tests", "this a complete other string", "test", "", "tests" ).collect( Collectors.toList() );
+        final CNCDEngine l_engine = new CNCDEngine( CCommon.ECompression.GZIP, "test" );
+
+        l_input.forEach( i -> Assertions.assertEquals( CCommon.ncd( CCommon.ECompression.GZIP, "test", i ), l_engine.distance( i ), 0 ) );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new CNCD(),
+                true,
+                Stream.concat( Stream.of( "BZIP", "test" ), l_input.stream() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertArrayEquals(
+            l_input.stream().map( i -> CCommon.ncd( CCommon.ECompression.BZIP, "test", i ) ).toArray(),
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+    }
+
+
+    /**
+     * test normalized compression distance with dictionary
+     */
+    @Test
+    public void ncddictionary()
+    {
+        final List<String> l_corpus = Stream.of(
+            "move to the north gate", "move to the south gate", "attack the north gate",
+            "defend the south gate", "move to the north gate", "retreat to the castle"
+        ).collect( Collectors.toList() );
+
+        final CNCDDictionary l_dictionary = CNCDDictionary.of( l_corpus );
+        final CNCDDictionary l_empty = new CNCDDictionary( new byte[0] );
+
+        Assertions.assertTrue( l_dictionary.size() > 0 );
+        Assertions.assertTrue( new CNCDDictionary( new byte[2 * CNCDDictionary.MAXIMUMSIZE] ).size() <= CNCDDictionary.MAXIMUMSIZE );
+        Assertions.assertTrue( l_dictionary.compressedsize( "move to the south gate" ) < l_empty.compressedsize( "move to the south gate" ) );
+
+        Assertions.assertEquals( 0, l_dictionary.distance( "move to the east gate", "move to the east gate" ), 0 );
+        Assertions.assertTrue(
+            l_dictionary.distance( "move to the east gate", "move to the west gate" ) < l_dictionary.distance( "move to the east gate", "retreat to the castle" )
+        );
+
+        final List<String> l_input = IntStream.range( 0, 2000 ).mapToObj( i -> l_corpus.get( i % l_corpus.size() ) + i ).collect( Collectors.toList() );
+        final List<ITerm> l_return = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new CNCD(),
+                true,
+                Stream.concat( Stream.of( l_dictionary, "move to the north gate" ), l_input.stream() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertArrayEquals(
+            l_input.stream().mapToDouble( i -> l_dictionary.distance( "move to the north gate", i ) ).toArray(),
+            l_return.stream().mapToDouble( i -> i.<Number>raw().doubleValue() ).toArray()
+        );
+
+        final List<ITerm> l_handle = new ArrayList<>();
+        Assertions.assertTrue( execute( new CDictionary(), false, l_corpus.stream().map( CRawTerm::of ).collect( Collectors.toList() ), l_handle ) );
+        Assertions.assertEquals( l_dictionary.size(), l_handle.get( 0 ).<CNCDDictionary>raw().size() );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> new CNCD().execute(
+                                    false,
+                                    IContext.EMPTYPLAN,
+                                    Stream.of( l_dictionary, "test" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                    Collections.emptyList()
+                                )
+        );
+    }
+
+
+    /**
+     * test normalized compression distance error
+     */
+    @Test
+    public void ncderror()
+    {
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> new CNCD().execute(
+                                    false,
+                                    IContext.EMPTYPLAN,
+                                    Collections.emptyList(),
+                                    Collections.emptyList()
+                                )
+        );
+    }
+
+    /**
+     * test replace
      */
     @Test
     public void replace()
@@ -483,6 +1667,133 @@ public final class TestCActionString extends IBaseTest
         );
     }
 
+    /**
+     * test replace with regular expression
+     */
+    @Test
+    public void replaceregex()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final long l_misses = CPatternCache.misses();
+
+        IntStream.range( 0, 2 ).forEach( i -> new CReplace().execute(
+            false,
+            IContext.EMPTYPLAN,
+            Stream.of( "o+(.)", "$1-", "foobar", "root", "xyz" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+
+        Assertions.assertArrayEquals(
+            Stream.of( "fb-ar", "rt-", "xyz", "fb-ar", "rt-", "xyz" ).toArray(),
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+        Assertions.assertTrue( CPatternCache.misses() - l_misses <= 1 );
+        Assertions.assertTrue( CPatternCache.literal( "oo" ) );
+        Assertions.assertFalse( CPatternCache.literal( "o+" ) );
+    }
+
+    /**
+     * test tokenize and n-grams
+     */
+    @Test
+    public void tokenngram()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue(
+            execute(
+                new CTokenize(),
+                false,
+                Stream.of( "[\\s,;]+", ", first, second;third  " ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new CNGrams(),
+                false,
+                Stream.of( 3, "agent", "a\uD83D\uDE00bc", "ab" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertArrayEquals( Stream.of( "first", "second", "third" ).toArray(), new CTokenLambdaStreaming().apply( l_return.get( 0 ).raw() ).toArray() );
+
+        final CNGramLambdaStreaming l_lambda = new CNGramLambdaStreaming();
+        Assertions.assertArrayEquals( Stream.of( "age", "gen", "ent" ).toArray(), l_lambda.apply( l_return.get( 1 ).raw() ).toArray() );
+        Assertions.assertArrayEquals( Stream.of( "a\uD83D\uDE00b", "\uD83D\uDE00bc" ).toArray(), l_lambda.apply( l_return.get( 2 ).raw() ).toArray() );
+        Assertions.assertEquals( 0, l_lambda.apply( l_return.get( 3 ).raw() ).count() );
+    }
+
+    /**
+     * test regular expression actions with handle and expression
+     */
+    @Test
+    public void regex()
+    {
+        final List<ITerm> l_handle = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new org.lightjason.agentspeak.action.string.regex.CCompile(),
+                false,
+                Stream.of( "(\\w+)@(\\w+)?" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_handle
+            )
+        );
+        Assertions.assertSame( CPatternCache.pattern( "(\\w+)@(\\w+)?" ), l_handle.get( 0 ).raw() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        Assertions.assertTrue(
+            execute(
+                new org.lightjason.agentspeak.action.string.regex.CMatch(),
+                false,
+                Stream.of( l_handle.get( 0 ).<Object>raw(), "agent@host", "agent@host!" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new org.lightjason.agentspeak.action.string.regex.CGroups(),
+                false,
+                Stream.of( l_handle.get( 0 ).<Object>raw(), "to agent@host", "agent@", "none" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new org.lightjason.agentspeak.action.string.regex.CFindAll(),
+                false,
+                Stream.of( "\\d+", "a1b22c333", "none" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new org.lightjason.agentspeak.action.string.regex.CSplit(),
+                false,
+                Stream.of( "\\s*,\\s*", "a, b ,c,,", "" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        Assertions.assertArrayEquals(
+            Stream.of(
+                true, false,
+                List.of( "agent", "host" ), List.of( "agent", "" ), Collections.emptyList(),
+                List.of( "1", "22", "333" ), Collections.emptyList(),
+                Arrays.asList( "a, b ,c,,".split( "\\s*,\\s*" ) ), Arrays.asList( "".split( "\\s*,\\s*" ) )
+            ).toArray(),
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new org.lightjason.agentspeak.action.string.regex.CMatch().execute(
+                false, IContext.EMPTYPLAN, Stream.of( "(", "a" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return
+            )
+        );
+    }
+
     /**
      * test lambda
      */
@@ -494,4 +1805,63 @@ public final class TestCActionString extends IBaseTest
             new CLambdaStreaming().apply( "abcdefg" ).toArray()
         );
     }
+
+    /**
+     * test lambda with surrogate pairs and shared characters
+     */
+    @Test
+    public void lambdacodepoint()
+    {
+        Assertions.assertArrayEquals(
+            Stream.of( "a", "\uD83D\uDE00", "ä" ).toArray(),
+            new CLambdaStreaming().apply( "a\uD83D\uDE00ä" ).toArray()
+        );
+        Assertions.assertSame( CLambdaStreaming.character( 'x' ), CLambdaStreaming.character( 'x' ) );
+    }
+
+    /**
+     * test chunk lambda
+     */
+    @Test
+    public void chunk()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertTrue(
+            execute(
+                new CChunk(),
+                false,
+                Stream.of( "word", "  this is\ta  text ", "line" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new CChunk(),
+                false,
+                Stream.of( "window", 3, "abcdefgh" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertTrue(
+            execute(
+                new CChunk(),
+                false,
+                Stream.of( "line", "first\nsecond\r\nthird" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        final CChunkLambdaStreaming l_lambda = new CChunkLambdaStreaming();
+        Assertions.assertArrayEquals( Stream.of( "this", "is", "a", "text" ).toArray(), l_lambda.apply( l_return.get( 0 ).raw() ).toArray() );
+        Assertions.assertArrayEquals( Stream.of( "line" ).toArray(), l_lambda.apply( l_return.get( 1 ).raw() ).toArray() );
+        Assertions.assertArrayEquals( Stream.of( "abc", "def", "gh" ).toArray(), l_lambda.apply( l_return.get( 2 ).raw() ).toArray() );
+        Assertions.assertArrayEquals( Stream.of( "first", "second", "third" ).toArray(), l_lambda.apply( l_return.get( 3 ).raw() ).toArray() );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CChunk().execute( false, IContext.EMPTYPLAN, Stream.of( "sentence", "foo bar" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                        Collections.emptyList() )
+        );
+    }
 }